@@ -11,14 +11,60 @@
 package org.eclipse.cbi.central;
 
 import okhttp3.*;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import okio.Buffer;
+import okio.ForwardingSource;
+import okio.Okio;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Base class for repository API clients providing common HTTP client
  * functionality,
  * authentication, and error handling.
+ *
+ * The underlying HTTP client and JSON mapper come from the
+ * {@link HttpClientRegistry}, so every client of a build shares one
+ * connection pool and dispatcher. Requests are sent by an
+ * {@link HttpTransport}: OkHttp by default, or the JDK HTTP client.
+ *
+ * Requests are executed asynchronously on the shared dispatcher via
+ * {@link #executeAsync(Request, ResponseHandler)}. Blocking operations are
+ * thin wrappers that {@link #await(CompletableFuture) await} the asynchronous
+ * result, so both flavours share the same request and response handling.
+ *
+ * Transient failures are retried according to the client's
+ * {@link RetryPolicy}, within a retry budget shared by the whole build.
+ *
+ * Each request belongs to an {@link EndpointClass}. Requests of a class take a
+ * permit from a token bucket shared by every client of the same host, and are
+ * delayed on the scheduler when the bucket is empty, so a parallel build stays
+ * under the server's rate limits.
+ *
+ * A {@link CircuitBreaker} per host makes requests fail fast with a
+ * {@link CircuitBreakerOpenException} once the host keeps failing, instead of
+ * waiting out connection timeouts and retries for every call.
+ *
+ * Idempotent status calls may be hedged according to the client's
+ * {@link HedgingPolicy}: when a call is slower than most recent calls of its
+ * kind, an identical request is sent and the first answer wins.
+ *
+ * Every HTTP exchange is measured per endpoint (latency, bytes, status codes)
+ * in the registry's {@link HttpClientRegistry#statistics() statistics}.
+ *
+ * Idempotent lookups may be {@link #executeShared(String, Supplier) shared}:
+ * concurrent identical calls then use a single HTTP exchange, and a result
+ * stays available to new callers for a short window after it arrived.
  */
 public abstract class BaseRepositoryClient {
     // Generic error codes with parameterized descriptions
@@ -33,12 +79,26 @@ public abstract class BaseRepositoryClient {
     protected static final String HEADER_ACCEPT = "Accept";
     protected static final String MEDIA_JSON = "application/json";
 
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    // How long a completed shared call keeps serving new callers
+    private static final long SHARED_RESULT_WINDOW_MILLIS = 500;
+
     protected final String baseUrl;
     protected final String username;
     protected final String password;
     protected final String bearerToken;
     protected final OkHttpClient client;
     protected final ObjectMapper objectMapper;
+    private final int connectTimeout;
+    private final int readTimeout;
+    private final int writeTimeout;
+    private volatile HttpTransport transport;
+    private volatile RetryPolicy retryPolicy = RetryPolicy.DEFAULT;
+    private volatile HedgingPolicy hedgingPolicy = HedgingPolicy.NONE;
+    private volatile ResponseCache responseCache;
+    private final Map<String, SharedCall> sharedCalls = new ConcurrentHashMap<>();
 
     // Default timeouts (in seconds)
     private static final int DEFAULT_CONNECT_TIMEOUT = 30;
@@ -74,12 +134,13 @@ public abstract class BaseRepositoryClient {
         this.password = password;
         this.bearerToken = null;
         this.baseUrl = baseUrl != null && !baseUrl.isEmpty() ? baseUrl : defaultBaseUrl;
-        this.client = new OkHttpClient.Builder()
-                .connectTimeout(connectTimeout, java.util.concurrent.TimeUnit.SECONDS)
-                .readTimeout(readTimeout, java.util.concurrent.TimeUnit.SECONDS)
-                .writeTimeout(writeTimeout, java.util.concurrent.TimeUnit.SECONDS)
-                .build();
-        this.objectMapper = new ObjectMapper();
+        this.client = HttpClientRegistry.getInstance().httpClient(connectTimeout, readTimeout, writeTimeout);
+        this.objectMapper = HttpClientRegistry.getInstance().objectMapper();
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.writeTimeout = writeTimeout;
+        this.transport = HttpClientRegistry.getInstance().transport(HttpTransport.Type.OKHTTP, connectTimeout,
+                readTimeout, writeTimeout);
     }
 
     /**
@@ -109,12 +170,13 @@ public abstract class BaseRepositoryClient {
         this.username = null;
         this.password = null;
         this.baseUrl = baseUrl != null && !baseUrl.isEmpty() ? baseUrl : defaultBaseUrl;
-        this.client = new OkHttpClient.Builder()
-                .connectTimeout(connectTimeout, java.util.concurrent.TimeUnit.SECONDS)
-                .readTimeout(readTimeout, java.util.concurrent.TimeUnit.SECONDS)
-                .writeTimeout(writeTimeout, java.util.concurrent.TimeUnit.SECONDS)
-                .build();
-        this.objectMapper = new ObjectMapper();
+        this.client = HttpClientRegistry.getInstance().httpClient(connectTimeout, readTimeout, writeTimeout);
+        this.objectMapper = HttpClientRegistry.getInstance().objectMapper();
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        this.writeTimeout = writeTimeout;
+        this.transport = HttpClientRegistry.getInstance().transport(HttpTransport.Type.OKHTTP, connectTimeout,
+                readTimeout, writeTimeout);
     }
 
     /**
@@ -152,6 +214,20 @@ public abstract class BaseRepositoryClient {
         return builder;
     }
 
+    /**
+     * Marks a request whose response may be kept in the persistent response
+     * cache of this client, when the cache is enabled. Only use it for
+     * listings and searches whose results may be reused by later goals or
+     * builds.
+     *
+     * @param request The request
+     * @return The marked request
+     */
+    protected Request cacheable(Request request) {
+        ResponseCache cache = responseCache;
+        return cache != null ? request.newBuilder().tag(ResponseCache.class, cache).build() : request;
+    }
+
     /**
      * Handles HTTP responses, parses JSON if expected, and throws exceptions for
      * error codes.
@@ -164,10 +240,33 @@ public abstract class BaseRepositoryClient {
      */
     protected Map<String, Object> handleResponse(Response response, Map<Integer, String> errorMessages,
             boolean expectJson) throws IOException {
+        return handleResponse(response, errorMessages, expectJson, null);
+    }
+
+    /**
+     * Handles HTTP responses like
+     * {@link #handleResponse(Response, Map, boolean)}. JSON is parsed straight
+     * from the response stream; if a filter is given, only the fields it selects
+     * are kept. The body is only read as a String for error messages.
+     *
+     * @param response      The HTTP response
+     * @param errorMessages Map of error codes to messages
+     * @param expectJson    Whether to parse the response body as JSON
+     * @param filter        Fields to keep, or null to keep the whole document
+     * @return Parsed response as a Map
+     * @throws IOException if an error or unexpected code occurs
+     */
+    Map<String, Object> handleResponse(Response response, Map<Integer, String> errorMessages,
+            boolean expectJson, JsonFieldFilter filter) throws IOException {
         int code = response.code();
+        if (code == 200 && expectJson && response.body() != null) {
+            try (InputStream in = response.body().byteStream()) {
+                return filter != null ? filter.read(objectMapper, in) : objectMapper.readValue(in, MAP_TYPE);
+            }
+        }
         String body = response.body() != null ? response.body().string() : "";
         if (code == 200 && expectJson) {
-            return objectMapper.readValue(body, Map.class);
+            return objectMapper.readValue(body, MAP_TYPE);
         } else if (code == 204 && !expectJson) {
             return Map.of("success", true, "message", "Operation completed successfully.");
         } else if (errorMessages.containsKey(code)) {
@@ -177,6 +276,580 @@ public abstract class BaseRepositoryClient {
         }
     }
 
+    /**
+     * Handles HTTP responses carrying a JSON document and binds it straight from
+     * the response stream to the given type. Properties the type does not
+     * declare are skipped by the parser.
+     *
+     * @param response      The HTTP response
+     * @param errorMessages Map of error codes to messages
+     * @param type          The type to bind the document to
+     * @return The bound document
+     * @throws IOException if an error or unexpected code occurs
+     */
+    protected <T> T handleResponse(Response response, Map<Integer, String> errorMessages, Class<T> type)
+            throws IOException {
+        int code = response.code();
+        if (code == 200 && response.body() != null) {
+            try (InputStream in = response.body().byteStream()) {
+                return objectMapper.readValue(in, type);
+            }
+        }
+        String body = response.body() != null ? response.body().string() : "";
+        if (errorMessages.containsKey(code)) {
+            throw new IOException(errorMessages.get(code) + " (" + code + "): " + body);
+        } else {
+            throw new IOException("Unexpected HTTP code " + code + ": " + body);
+        }
+    }
+
+    /**
+     * Converts an HTTP response into a result. Implementations must not keep a
+     * reference to the response, which is closed once the handler returns.
+     *
+     * @param <T> The result type
+     */
+    @FunctionalInterface
+    protected interface ResponseHandler<T> {
+        T handle(Response response) throws IOException;
+    }
+
+    /**
+     * Enqueues an idempotent request on the shared dispatcher. The endpoint
+     * class is derived from the HTTP method.
+     *
+     * @see #executeAsync(Request, ResponseHandler, EndpointClass, boolean)
+     */
+    protected <T> CompletableFuture<T> executeAsync(Request request, ResponseHandler<T> handler) {
+        return executeAsync(request, handler, true);
+    }
+
+    /**
+     * Enqueues a request on the shared dispatcher. The endpoint class is derived
+     * from the HTTP method.
+     *
+     * @see #executeAsync(Request, ResponseHandler, EndpointClass, boolean)
+     */
+    protected <T> CompletableFuture<T> executeAsync(Request request, ResponseHandler<T> handler,
+            boolean idempotent) {
+        return executeAsync(request, handler, EndpointClass.of(request.method()), idempotent);
+    }
+
+    /**
+     * Enqueues an idempotent request on the shared dispatcher.
+     *
+     * @see #executeAsync(Request, ResponseHandler, EndpointClass, boolean)
+     */
+    protected <T> CompletableFuture<T> executeAsync(Request request, ResponseHandler<T> handler,
+            EndpointClass endpointClass) {
+        return executeAsync(request, handler, endpointClass, true);
+    }
+
+    /**
+     * Enqueues a request on the shared dispatcher and completes the returned
+     * future with the handler's result. Each attempt first takes a permit from
+     * the rate limiter of its endpoint class. Transient failures are retried
+     * according to the retry policy before the handler sees the response. The
+     * future completes exceptionally with the IOException raised by the
+     * transport or the handler. Cancelling the future cancels the underlying
+     * call.
+     *
+     * Idempotent {@link EndpointClass#STATUS status} requests are hedged when
+     * the hedging policy allows it.
+     *
+     * @param request       The HTTP request
+     * @param handler       Converts the response into a result
+     * @param endpointClass The rate limit class of the request
+     * @param idempotent    Whether the request may be repeated after the server
+     *                      possibly processed it
+     * @return A future of the handler's result
+     */
+    protected <T> CompletableFuture<T> executeAsync(Request request, ResponseHandler<T> handler,
+            EndpointClass endpointClass, boolean idempotent) {
+        HedgingPolicy hedging = hedgingPolicy;
+        if (idempotent && endpointClass == EndpointClass.STATUS && hedging.isEnabled()) {
+            HedgedCall<T> call = new HedgedCall<>(request, handler, retryPolicy, hedging);
+            call.start();
+            return call.future;
+        }
+        RetryingCall<T> call = new RetryingCall<>(request, handler, idempotent, retryPolicy, endpointClass);
+        call.send();
+        return call.future;
+    }
+
+    /**
+     * Runs an idempotent call, or joins an identical one. While a call with the
+     * same key is in flight, or completed successfully less than 500 ms ago,
+     * the caller gets its result instead of sending a new request. Failures are
+     * not shared with later callers.
+     *
+     * The key must identify the request and the result type. Callers receive
+     * the same result instance and must not modify it. Cancelling the returned
+     * future only detaches that caller.
+     *
+     * @param key  Identifies the request and the result type
+     * @param call Starts the request when no shared call is available
+     * @return A future of the shared result
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> CompletableFuture<T> executeShared(String key, Supplier<CompletableFuture<T>> call) {
+        long now = System.nanoTime();
+        SharedCall[] created = new SharedCall[1];
+        SharedCall shared = sharedCalls.compute(key, (k, existing) -> {
+            if (existing != null && existing.isAvailable(now)) {
+                return existing;
+            }
+            created[0] = new SharedCall();
+            return created[0];
+        });
+        if (created[0] == null) {
+            HttpClientRegistry.getInstance().recordSharedCall(!shared.result.isDone());
+        } else {
+            CompletableFuture<T> started;
+            try {
+                started = call.get();
+            } catch (RuntimeException e) {
+                // The entry is already visible to other callers
+                sharedCalls.remove(key, shared);
+                shared.result.completeExceptionally(e);
+                return (CompletableFuture<T>) shared.result.copy();
+            }
+            started.whenComplete((result, error) -> {
+                if (error != null) {
+                    sharedCalls.remove(key, shared);
+                    shared.result.completeExceptionally(error);
+                } else {
+                    shared.completedAt = System.nanoTime();
+                    shared.result.complete(result);
+                    HttpClientRegistry.getInstance().scheduler().schedule(() -> sharedCalls.remove(key, shared),
+                            SHARED_RESULT_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            });
+        }
+        return (CompletableFuture<T>) shared.result.copy();
+    }
+
+    /**
+     * Forgets shared results whose key starts with the given prefix, typically
+     * after an operation that changed them.
+     *
+     * @param keyPrefix The key prefix
+     */
+    protected void invalidateShared(String keyPrefix) {
+        sharedCalls.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+
+    /**
+     * An in-flight or recently completed call shared by identical requests.
+     */
+    private static final class SharedCall {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        volatile long completedAt;
+
+        boolean isAvailable(long now) {
+            if (!result.isDone()) {
+                return true;
+            }
+            return !result.isCompletedExceptionally()
+                    && now - completedAt < TimeUnit.MILLISECONDS.toNanos(SHARED_RESULT_WINDOW_MILLIS);
+        }
+    }
+
+    /**
+     * Limits the request rate of an endpoint class. The limit is shared by all
+     * clients of the same host.
+     *
+     * @param endpointClass    The endpoint class
+     * @param permitsPerSecond Requests per second, 0 or less for no limit
+     */
+    public void setRateLimit(EndpointClass endpointClass, double permitsPerSecond) {
+        rateLimiter(endpointClass).setRate(permitsPerSecond);
+    }
+
+    private RateLimiter rateLimiter(EndpointClass endpointClass) {
+        return HttpClientRegistry.getInstance().rateLimiter(HttpClientRegistry.hostKey(baseUrl), endpointClass);
+    }
+
+    /**
+     * Applies the settings a client was created with by the registry.
+     *
+     * @param settings      The client settings
+     * @param responseCache The response cache, or null if disabled
+     */
+    void configure(ClientSettings settings, ResponseCache responseCache) {
+        setTransport(settings.transport());
+        setRetryPolicy(settings.retryPolicy());
+        setHedgingPolicy(settings.hedgingPolicy());
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * Selects the transport sending subsequent requests of this client. The
+     * response cache is only used by the OkHttp transport.
+     *
+     * Clients obtained from the {@link HttpClientRegistry} are shared and
+     * should be requested with the desired {@link ClientSettings} instead.
+     *
+     * @param type The transport type
+     */
+    public void setTransport(HttpTransport.Type type) {
+        this.transport = HttpClientRegistry.getInstance().transport(type, connectTimeout, readTimeout, writeTimeout);
+    }
+
+    /**
+     * Returns the transport sending the requests of this client.
+     */
+    public HttpTransport getTransport() {
+        return transport;
+    }
+
+    /**
+     * Sets the retry policy used for subsequent requests of this client.
+     *
+     * @param retryPolicy The retry policy, or null to disable retries
+     */
+    public void setRetryPolicy(RetryPolicy retryPolicy) {
+        this.retryPolicy = retryPolicy != null ? retryPolicy : RetryPolicy.NONE;
+    }
+
+    /**
+     * Returns the retry policy of this client.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Sets the hedging policy used for subsequent status calls of this client.
+     *
+     * @param hedgingPolicy The hedging policy, or null to disable hedging
+     */
+    public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy != null ? hedgingPolicy : HedgingPolicy.NONE;
+    }
+
+    /**
+     * Returns the hedging policy of this client.
+     */
+    public HedgingPolicy getHedgingPolicy() {
+        return hedgingPolicy;
+    }
+
+    /**
+     * Waits for an asynchronous operation and rethrows its failure as it was
+     * raised, so blocking callers see the same exceptions as before.
+     *
+     * @param future The asynchronous operation
+     * @return The operation's result
+     * @throws IOException if the operation failed or the wait was interrupted
+     */
+    protected static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            InterruptedIOException interrupted = new InterruptedIOException("Interrupted while waiting for response");
+            interrupted.initCause(e);
+            throw interrupted;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            } else if (cause instanceof RuntimeException re) {
+                throw re;
+            } else if (cause instanceof Error err) {
+                throw err;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * A call that re-enqueues itself after a backoff delay on transient failures.
+     * Backoff delays and rate limit waits are scheduled on the registry's
+     * scheduler, so no thread is held while waiting.
+     */
+    private final class RetryingCall<T> implements Callback {
+        private final Request request;
+        private final ResponseHandler<T> handler;
+        private final boolean idempotent;
+        private final RetryPolicy policy;
+        private final EndpointClass endpointClass;
+        private final RateLimiter rateLimiter;
+        private final CircuitBreaker breaker = HttpClientRegistry.getInstance().circuitBreaker(baseUrl);
+        private final RetryBudget budget = HttpClientRegistry.getInstance().retryBudget();
+        private final LatencyTracker latencies;
+        private final EndpointMetrics metrics;
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private int retries;
+        private long previousDelay;
+        private volatile Call current;
+        private volatile long sentAt;
+        // Run once when the request first leaves the rate limiter
+        volatile Runnable sentListener;
+
+        RetryingCall(Request request, ResponseHandler<T> handler, boolean idempotent, RetryPolicy policy,
+                EndpointClass endpointClass) {
+            this.request = request;
+            this.endpointClass = endpointClass;
+            this.rateLimiter = rateLimiter(endpointClass);
+            this.latencies = HttpClientRegistry.getInstance().latencyTracker(HttpClientRegistry.hostKey(baseUrl),
+                    endpointClass);
+            this.metrics = HttpClientRegistry.getInstance().endpointMetrics(endpointName(request));
+            this.handler = handler;
+            this.idempotent = idempotent;
+            this.policy = policy;
+            future.whenComplete((result, error) -> {
+                Call call = current;
+                if (future.isCancelled() && call != null) {
+                    call.cancel();
+                }
+            });
+        }
+
+        void send() {
+            if (future.isDone()) {
+                return;
+            }
+            if (!breaker.tryAcquire()) {
+                future.completeExceptionally(new CircuitBreakerOpenException(breaker.getName(),
+                        breaker.getRemainingOpenMillis()));
+                return;
+            }
+            if (retries == 0) {
+                budget.onRequest();
+            }
+            long wait = rateLimiter.acquire();
+            if (wait > 0) {
+                HttpClientRegistry.getInstance().scheduler().schedule(this::enqueue, wait, TimeUnit.NANOSECONDS);
+            } else {
+                enqueue();
+            }
+        }
+
+        private void enqueue() {
+            if (future.isDone()) {
+                breaker.onIgnored();
+                return;
+            }
+            Call call = transport.newCall(request);
+            current = call;
+            sentAt = System.nanoTime();
+            call.enqueue(this);
+            Runnable listener = sentListener;
+            if (listener != null) {
+                sentListener = null;
+                listener.run();
+            }
+        }
+
+        @Override
+        public void onFailure(Call call, IOException e) {
+            if (call.isCanceled()) {
+                breaker.onIgnored();
+            } else {
+                breaker.onFailure();
+                metrics.record(System.nanoTime() - sentAt, e.getClass().getSimpleName(), requestBytes(request), 0);
+            }
+            if (call.isCanceled() || !policy.isRetryable(e, idempotent) || !scheduleRetry(-1)) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        @Override
+        public void onResponse(Call call, Response networkResponse) {
+            long[] received = new long[1];
+            Response response = countReceived(networkResponse, received);
+            try (response) {
+                if (response.code() >= 500) {
+                    breaker.onFailure();
+                } else {
+                    breaker.onSuccess();
+                    latencies.record(System.nanoTime() - sentAt);
+                }
+                if (policy.isRetryable(response.code(), idempotent)
+                        && scheduleRetry(RetryPolicy.parseRetryAfter(response.header("Retry-After")))) {
+                    return;
+                }
+                ResponseCache cache = responseCache;
+                if (cache != null && response.isSuccessful()
+                        && (endpointClass == EndpointClass.MUTATE || endpointClass == EndpointClass.UPLOAD)) {
+                    // Cached searches of this host may no longer reflect the server
+                    cache.invalidate(HttpClientRegistry.hostKey(request.url().toString()));
+                }
+                future.complete(handler.handle(response));
+            } catch (IOException | RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                metrics.record(System.nanoTime() - sentAt, Integer.toString(response.code()), requestBytes(request),
+                        received[0]);
+            }
+        }
+
+        /**
+         * Schedules the next attempt if the policy and the retry budget allow it.
+         *
+         * @param retryAfterMillis Delay requested by the server, or -1
+         * @return true if a retry was scheduled
+         */
+        private boolean scheduleRetry(long retryAfterMillis) {
+            if (retries >= policy.getMaxRetries() || retryAfterMillis > policy.getMaxDelayMillis()) {
+                return false;
+            }
+            long delay = Math.max(policy.nextDelay(previousDelay), retryAfterMillis);
+            if (!budget.tryRetry(delay)) {
+                return false;
+            }
+            retries++;
+            previousDelay = delay;
+            HttpClientRegistry.getInstance().scheduler().schedule(this::send, delay, TimeUnit.MILLISECONDS);
+            return true;
+        }
+    }
+
+    /**
+     * Returns the endpoint of a request for metrics: method, host and path, with
+     * identifiers (long or numeric path segments) replaced by {@code {id}} and
+     * without the query. Downloads from a repository ({@code /repository/<name>/...})
+     * are reported as one endpoint per repository.
+     */
+    static String endpointName(Request request) {
+        StringBuilder name = new StringBuilder(request.method()).append(' ').append(request.url().host());
+        List<String> segments = request.url().pathSegments();
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (i >= 2 && "repository".equals(segments.get(i - 2))) {
+                name.append("/**");
+                break;
+            }
+            boolean id = segment.length() >= 16 || (!segment.isEmpty() && segment.chars().allMatch(Character::isDigit));
+            name.append('/').append(id ? "{id}" : segment);
+        }
+        return name.toString();
+    }
+
+    private static long requestBytes(Request request) {
+        try {
+            return request.body() != null ? Math.max(0, request.body().contentLength()) : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Wraps the body of a response to count the bytes read from it.
+     */
+    private static Response countReceived(Response response, long[] received) {
+        ResponseBody body = response.body();
+        if (body == null) {
+            return response;
+        }
+        ForwardingSource counting = new ForwardingSource(body.source()) {
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                long read = super.read(sink, byteCount);
+                if (read > 0) {
+                    received[0] += read;
+                }
+                return read;
+            }
+        };
+        return response.newBuilder()
+                .body(ResponseBody.create(Okio.buffer(counting), body.contentType(), body.contentLength()))
+                .build();
+    }
+
+    /**
+     * An idempotent call sent again while its previous requests are slow. Each
+     * request retries on its own; the first success completes the call and
+     * cancels the others, and the call only fails once all its requests failed.
+     */
+    private final class HedgedCall<T> {
+        private final Request request;
+        private final ResponseHandler<T> handler;
+        private final RetryPolicy retryPolicy;
+        private final HedgingPolicy policy;
+        private final LatencyTracker latencies;
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        // Guarded by this
+        private final List<RetryingCall<T>> attempts = new ArrayList<>();
+        private int failed;
+
+        HedgedCall(Request request, ResponseHandler<T> handler, RetryPolicy retryPolicy, HedgingPolicy policy) {
+            this.request = request;
+            this.handler = handler;
+            this.retryPolicy = retryPolicy;
+            this.policy = policy;
+            this.latencies = HttpClientRegistry.getInstance().latencyTracker(HttpClientRegistry.hostKey(baseUrl),
+                    EndpointClass.STATUS);
+            future.whenComplete((result, error) -> {
+                List<RetryingCall<T>> started;
+                synchronized (this) {
+                    started = new ArrayList<>(attempts);
+                }
+                for (RetryingCall<T> attempt : started) {
+                    attempt.future.cancel(true);
+                }
+            });
+        }
+
+        void start() {
+            HttpClientRegistry.getInstance().onHedgeableCall();
+            launch();
+        }
+
+        private void launch() {
+            RetryingCall<T> attempt = new RetryingCall<>(request, handler, true, retryPolicy, EndpointClass.STATUS);
+            int index;
+            synchronized (this) {
+                if (future.isDone()) {
+                    return;
+                }
+                index = attempts.size();
+                attempts.add(attempt);
+            }
+            attempt.future.whenComplete((result, error) -> onAttempt(index, result, error));
+            if (index < policy.getMaxHedges()) {
+                // The hedge delay starts once the request is actually sent, not
+                // while it waits for a rate limit permit
+                attempt.sentListener = this::scheduleHedge;
+            }
+            attempt.send();
+        }
+
+        private void scheduleHedge() {
+            long delay = policy.hedgeDelay(latencies);
+            if (delay < 0 || future.isDone()) {
+                return;
+            }
+            HttpClientRegistry.getInstance().scheduler().schedule(() -> {
+                if (!future.isDone() && HttpClientRegistry.getInstance().tryHedge()) {
+                    launch();
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void onAttempt(int index, T result, Throwable error) {
+            if (error == null) {
+                if (future.complete(result) && index > 0) {
+                    HttpClientRegistry.getInstance().recordHedgeWon();
+                }
+                return;
+            }
+            boolean allFailed;
+            synchronized (this) {
+                failed++;
+                allFailed = failed == attempts.size();
+            }
+            if (allFailed) {
+                future.completeExceptionally(error);
+            }
+        }
+    }
+
     /**
      * Gets the base URL for this client.
      */
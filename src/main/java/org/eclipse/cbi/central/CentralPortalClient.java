@@ -15,6 +15,9 @@ package org.eclipse.cbi.central;
 import okhttp3.*;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Central Portal API Client for Maven Central staging operations.
@@ -30,6 +33,10 @@ import java.util.Map;
  * 3. Publication to make artifacts publicly available
  * 4. Optional cleanup of staging deployments
  * 
+ * Each operation is available as a blocking method and as an asynchronous
+ * {@code ...Async} variant returning a {@link CompletableFuture}, which allows
+ * callers to fan out many requests without a thread per request.
+ * 
  * @see <a href="https://central.sonatype.com/api-doc">Central Publisher API
  *      Documentation</a>
  */
@@ -42,7 +49,23 @@ public class CentralPortalClient extends BaseRepositoryClient {
     private static final String CTX_LIST_DEPLOYMENTS = "List deployments";
     private static final String CTX_UPLOAD_BUNDLE = "Upload bundle";
 
-    private static final String DEFAULT_BASE_URL = "https://central.sonatype.com/api/v1/publisher";
+    /** Central Publisher API URL used when no custom URL is configured. */
+    public static final String DEFAULT_BASE_URL = "https://central.sonatype.com/api/v1/publisher";
+
+    // Key prefixes of shared (coalesced) lookups
+    private static final String SHARED_STATUS = "status|";
+    private static final String SHARED_PUBLISHED = "published|";
+
+    // Page size used when streaming deployments
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
+    // Fields of the deployment listing read by the mojos; everything else is skipped while parsing
+    private static final JsonFieldFilter DEPLOYMENT_LISTING_FILTER = new JsonFieldFilter(
+            Set.of(DeploymentConstants.DEPLOYMENTS, DeploymentConstants.DEPLOYMENT_ID, "deploymentName",
+                    DeploymentConstants.DEPLOYMENT_STATE, DeploymentConstants.CREATE_TIMESTAMP,
+                    DeploymentConstants.DEPLOYED_COMPONENT_VERSIONS, DeploymentConstants.PURL,
+                    "page", "pageSize", "pageCount", "totalResultCount"),
+            Set.of(DeploymentConstants.ERRORS));
 
     /**
      * Creates a new Central Portal API client with default base URL.
@@ -89,15 +112,28 @@ public class CentralPortalClient extends BaseRepositoryClient {
      * @throws IOException if the request fails
      */
     public Map<String, Object> checkPublished(String namespace, String name, String version) throws IOException {
+        return await(checkPublishedAsync(namespace, name, version));
+    }
+
+    /**
+     * Asynchronous variant of {@link #checkPublished(String, String, String)}.
+     *
+     * @param namespace The namespace (groupId)
+     * @param name      The name (artifactId)
+     * @param version   The version
+     * @return A future of the publication status
+     */
+    public CompletableFuture<Map<String, Object>> checkPublishedAsync(String namespace, String name,
+            String version) {
         String url = baseUrl + "/published?namespace=" + namespace + "&name=" + name + "&version=" + version;
         Request request = baseRequest(url).get().build();
-        try (Response response = client.newCall(request).execute()) {
-            return handleResponse(response, Map.of(
-                    400, errorDescription(400, CTX_CHECK_PUBLISHED),
-                    401, errorDescription(401, CTX_CHECK_PUBLISHED),
-                    403, errorDescription(403, CTX_CHECK_PUBLISHED),
-                    500, errorDescription(500, CTX_CHECK_PUBLISHED)), true);
-        }
+        return executeShared(SHARED_PUBLISHED + url, () -> executeAsync(request,
+                response -> handleResponse(response, Map.of(
+                        400, errorDescription(400, CTX_CHECK_PUBLISHED),
+                        401, errorDescription(401, CTX_CHECK_PUBLISHED),
+                        403, errorDescription(403, CTX_CHECK_PUBLISHED),
+                        500, errorDescription(500, CTX_CHECK_PUBLISHED)), true),
+                EndpointClass.STATUS));
     }
 
     /**
@@ -108,16 +144,60 @@ public class CentralPortalClient extends BaseRepositoryClient {
      * @throws IOException if the request fails
      */
     public Map<String, Object> getDeploymentStatus(String deploymentId) throws IOException {
+        return await(getDeploymentStatusAsync(deploymentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getDeploymentStatus(String)}.
+     *
+     * @param deploymentId The deployment ID
+     * @return A future of the deployment status
+     */
+    public CompletableFuture<Map<String, Object>> getDeploymentStatusAsync(String deploymentId) {
+        return executeShared(statusKey(deploymentId) + "map", () -> executeAsync(statusRequest(deploymentId),
+                response -> handleResponse(response, statusErrors(), true), EndpointClass.STATUS));
+    }
+
+    /**
+     * Gets the status of a deployment by its deploymentId as a typed
+     * {@link Deployment}.
+     *
+     * @param deploymentId The deployment ID
+     * @return The deployment
+     * @throws IOException if the request fails
+     */
+    public Deployment getDeployment(String deploymentId) throws IOException {
+        return await(getDeploymentAsync(deploymentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getDeployment(String)}.
+     *
+     * @param deploymentId The deployment ID
+     * @return A future of the deployment
+     */
+    public CompletableFuture<Deployment> getDeploymentAsync(String deploymentId) {
+        return executeShared(statusKey(deploymentId) + "typed", () -> executeAsync(statusRequest(deploymentId),
+                response -> handleResponse(response, statusErrors(), Deployment.class), EndpointClass.STATUS));
+    }
+
+    // Status lookups of a deployment share this key prefix, followed by the result type
+    private static String statusKey(String deploymentId) {
+        return SHARED_STATUS + deploymentId + "|";
+    }
+
+    private Request statusRequest(String deploymentId) {
         String url = baseUrl + "/status?id=" + deploymentId;
-        Request request = baseRequest(url).post(RequestBody.create(new byte[0])).build();
-        try (Response response = client.newCall(request).execute()) {
-            return handleResponse(response, Map.of(
-                    400, errorDescription(400, CTX_GET_DEPLOYMENT_STATUS),
-                    401, errorDescription(401, CTX_GET_DEPLOYMENT_STATUS),
-                    403, errorDescription(403, CTX_GET_DEPLOYMENT_STATUS),
-                    404, errorDescription(404, CTX_DEPLOYMENT_NOT_FOUND),
-                    500, errorDescription(500, CTX_GET_DEPLOYMENT_STATUS)), true);
-        }
+        return baseRequest(url).post(RequestBody.create(new byte[0])).build();
+    }
+
+    private Map<Integer, String> statusErrors() {
+        return Map.of(
+                400, errorDescription(400, CTX_GET_DEPLOYMENT_STATUS),
+                401, errorDescription(401, CTX_GET_DEPLOYMENT_STATUS),
+                403, errorDescription(403, CTX_GET_DEPLOYMENT_STATUS),
+                404, errorDescription(404, CTX_DEPLOYMENT_NOT_FOUND),
+                500, errorDescription(500, CTX_GET_DEPLOYMENT_STATUS));
     }
 
     /**
@@ -128,16 +208,29 @@ public class CentralPortalClient extends BaseRepositoryClient {
      * @throws IOException if the request fails
      */
     public Map<String, Object> publishDeployment(String deploymentId) throws IOException {
+        return await(publishDeploymentAsync(deploymentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #publishDeployment(String)}.
+     *
+     * @param deploymentId The deployment ID
+     * @return A future of the publish result
+     */
+    public CompletableFuture<Map<String, Object>> publishDeploymentAsync(String deploymentId) {
         String url = baseUrl + "/deployment/" + deploymentId;
         Request request = baseRequest(url).post(RequestBody.create(new byte[0])).build();
-        try (Response response = client.newCall(request).execute()) {
+        // Not idempotent: only retried when the server cannot have processed it
+        return executeAsync(request, response -> {
+            // Status lookups made before publishing are outdated
+            invalidateShared(statusKey(deploymentId));
             return handleResponse(response, Map.of(
                     400, errorDescription(400, CTX_PUBLISH_DEPLOYMENT),
                     401, errorDescription(401, CTX_PUBLISH_DEPLOYMENT),
                     403, errorDescription(403, CTX_PUBLISH_DEPLOYMENT),
                     404, errorDescription(404, CTX_DEPLOYMENT_NOT_FOUND),
                     500, errorDescription(500, CTX_PUBLISH_DEPLOYMENT)), false);
-        }
+        }, EndpointClass.MUTATE, false);
     }
 
     // Drop a deployment (FAILED or VALIDATED state)
@@ -149,9 +242,21 @@ public class CentralPortalClient extends BaseRepositoryClient {
      * @throws IOException if the request fails
      */
     public Map<String, Object> dropDeployment(String deploymentId) throws IOException {
+        return await(dropDeploymentAsync(deploymentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #dropDeployment(String)}.
+     *
+     * @param deploymentId The deployment ID
+     * @return A future of the drop result
+     */
+    public CompletableFuture<Map<String, Object>> dropDeploymentAsync(String deploymentId) {
         String url = baseUrl + "/deployment/" + deploymentId;
         Request request = baseRequest(url).delete().build();
-        try (Response response = client.newCall(request).execute()) {
+        return executeAsync(request, response -> {
+            // A dropped deployment no longer has the status seen before
+            invalidateShared(statusKey(deploymentId));
             int code = response.code();
             String body = response.body() != null ? response.body().string() : "";
             if (code == 204) {
@@ -161,7 +266,7 @@ public class CentralPortalClient extends BaseRepositoryClient {
             } else {
                 throw new IOException("Unexpected HTTP code " + code + ": " + body);
             }
-        }
+        }, EndpointClass.MUTATE);
     }
 
     // List deployments for a given pathStarting (namespace)
@@ -169,6 +274,10 @@ public class CentralPortalClient extends BaseRepositoryClient {
      * Lists deployments for a given namespace (pathStarting) with pagination and
      * sorting.
      *
+     * The response is parsed while streaming and only keeps the deployment ID,
+     * name, state and creation timestamp, and the purl and errors of each
+     * deployed component version, plus the paging fields.
+     *
      * @param pathStarting  The namespace (groupId)
      * @param page          Page number
      * @param size          Page size
@@ -179,22 +288,126 @@ public class CentralPortalClient extends BaseRepositoryClient {
      */
     public Map<String, Object> listDeployments(String pathStarting, int page, int size, String sortField,
             String sortDirection) throws IOException {
+        return await(listDeploymentsAsync(pathStarting, page, size, sortField, sortDirection));
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link #listDeployments(String, int, int, String, String)}.
+     *
+     * @param pathStarting  The namespace (groupId)
+     * @param page          Page number
+     * @param size          Page size
+     * @param sortField     Field to sort by
+     * @param sortDirection Sort direction (asc/desc)
+     * @return A future of the deployments page
+     */
+    public CompletableFuture<Map<String, Object>> listDeploymentsAsync(String pathStarting, int page, int size,
+            String sortField, String sortDirection) {
+        Request request = listRequest(pathStarting, page, size, sortField, sortDirection);
+        return executeAsync(request,
+                response -> handleResponse(response, listErrors(), true, DEPLOYMENT_LISTING_FILTER),
+                EndpointClass.LISTING);
+    }
+
+    /**
+     * Lists deployments for a given namespace (pathStarting) as a typed
+     * {@link DeploymentPage}. Fields not declared by the model are skipped
+     * while parsing.
+     *
+     * @param pathStarting  The namespace (groupId)
+     * @param page          Page number
+     * @param size          Page size
+     * @param sortField     Field to sort by
+     * @param sortDirection Sort direction (asc/desc)
+     * @return The requested page of deployments
+     * @throws IOException if the request fails
+     */
+    public DeploymentPage listDeploymentPage(String pathStarting, int page, int size, String sortField,
+            String sortDirection) throws IOException {
+        return await(listDeploymentPageAsync(pathStarting, page, size, sortField, sortDirection));
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link #listDeploymentPage(String, int, int, String, String)}.
+     *
+     * @param pathStarting  The namespace (groupId)
+     * @param page          Page number
+     * @param size          Page size
+     * @param sortField     Field to sort by
+     * @param sortDirection Sort direction (asc/desc)
+     * @return A future of the requested page of deployments
+     */
+    public CompletableFuture<DeploymentPage> listDeploymentPageAsync(String pathStarting, int page, int size,
+            String sortField, String sortDirection) {
+        Request request = listRequest(pathStarting, page, size, sortField, sortDirection);
+        return executeAsync(request, response -> handleResponse(response, listErrors(), DeploymentPage.class),
+                EndpointClass.LISTING);
+    }
+
+    /**
+     * Lists all deployments for a given namespace, newest first.
+     *
+     * @param pathStarting The namespace (groupId)
+     * @return A lazy stream of deployments, see
+     *         {@link #deployments(String, int, String, String)}
+     */
+    public Stream<Deployment> deployments(String pathStarting) {
+        return deployments(pathStarting, DEFAULT_PAGE_SIZE, "createTimestamp", "desc");
+    }
+
+    /**
+     * Lists all deployments for a given namespace as a lazy stream.
+     *
+     * Pages are requested on demand; the next page is prefetched while the
+     * current one is consumed. Short-circuiting operations stop the paging, so
+     * looking for the latest matching deployment usually costs a single
+     * request. The stream should be closed (e.g. with try-with-resources) when
+     * it is not consumed entirely, to cancel the prefetch. API failures are
+     * thrown as {@link java.io.UncheckedIOException}.
+     *
+     * @param pathStarting  The namespace (groupId)
+     * @param pageSize      Number of deployments per request
+     * @param sortField     Field to sort by
+     * @param sortDirection Sort direction (asc/desc)
+     * @return A lazy stream of deployments
+     */
+    public Stream<Deployment> deployments(String pathStarting, int pageSize, String sortField,
+            String sortDirection) {
+        return new PagedSpliterator<DeploymentPage, Deployment>(
+                listDeploymentPageAsync(pathStarting, 0, pageSize, sortField, sortDirection),
+                DeploymentPage::deployments,
+                (page, result) -> isLastPage(page, pageSize, result) ? null
+                        : listDeploymentPageAsync(pathStarting, page + 1, pageSize, sortField, sortDirection))
+                .stream();
+    }
+
+    private static boolean isLastPage(int page, int pageSize, DeploymentPage result) {
+        if (result.deployments().size() < pageSize) {
+            return true;
+        }
+        return result.pageCount() > 0 && page + 1 >= result.pageCount();
+    }
+
+    private Request listRequest(String pathStarting, int page, int size, String sortField, String sortDirection) {
         String url = baseUrl + "/deployments/files";
         MediaType jsonType = MediaType.parse(MEDIA_JSON);
         String payload = String.format(
                 "{\"page\":%d,\"size\":%d,\"sortField\":\"%s\",\"sortDirection\":\"%s\",\"pathStarting\":\"%s\"}",
                 page, size, sortField, sortDirection, pathStarting);
         RequestBody body = RequestBody.create(payload, jsonType);
-        Request request = baseRequest(url)
+        return baseRequest(url)
                 .post(body)
                 .build();
-        try (Response response = client.newCall(request).execute()) {
-            return handleResponse(response, Map.of(
-                    400, errorDescription(400, CTX_LIST_DEPLOYMENTS),
-                    401, errorDescription(401, CTX_LIST_DEPLOYMENTS),
-                    403, errorDescription(403, CTX_LIST_DEPLOYMENTS),
-                    500, errorDescription(500, CTX_LIST_DEPLOYMENTS)), true);
-        }
+    }
+
+    private Map<Integer, String> listErrors() {
+        return Map.of(
+                400, errorDescription(400, CTX_LIST_DEPLOYMENTS),
+                401, errorDescription(401, CTX_LIST_DEPLOYMENTS),
+                403, errorDescription(403, CTX_LIST_DEPLOYMENTS),
+                500, errorDescription(500, CTX_LIST_DEPLOYMENTS));
     }
 
     /**
@@ -216,6 +429,21 @@ public class CentralPortalClient extends BaseRepositoryClient {
      */
     public String uploadBundle(java.nio.file.Path bundleFile, String bundleName, String publishingType)
             throws IOException {
+        return await(uploadBundleAsync(bundleFile, bundleName, publishingType));
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link #uploadBundle(java.nio.file.Path, String, String)}.
+     *
+     * @param bundleFile     The path to the zip file to upload
+     * @param bundleName     The name for the bundle (for identification)
+     * @param publishingType The publishing type (e.g., "USER_MANAGED" for manual
+     *                       publishing)
+     * @return A future of the deployment ID
+     */
+    public CompletableFuture<String> uploadBundleAsync(java.nio.file.Path bundleFile, String bundleName,
+            String publishingType) {
         String url = baseUrl + "/upload?name=" + bundleName + "&publishingType=" + publishingType;
 
         // Create multipart form data for file upload
@@ -227,7 +455,8 @@ public class CentralPortalClient extends BaseRepositoryClient {
 
         Request request = baseRequest(url).addHeader("accept", "text/plain").post(formBody).build();
 
-        try (Response response = client.newCall(request).execute()) {
+        // Not idempotent: a retried upload could create a second deployment
+        return executeAsync(request, response -> {
             int code = response.code();
             String body = response.body() != null ? response.body().string() : "";
 
@@ -249,6 +478,6 @@ public class CentralPortalClient extends BaseRepositoryClient {
             } else {
                 throw new IOException("Unexpected HTTP code " + code + ": " + body);
             }
-        }
+        }, EndpointClass.UPLOAD, false);
     }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+/**
+ * Circuit breaker shared by every call to a host.
+ *
+ * The outcomes of the last {@value #WINDOW_SIZE} calls are kept. Once at least
+ * {@value #MINIMUM_CALLS} calls were made and the share of failures reaches the
+ * threshold, the breaker opens: calls are refused immediately instead of
+ * waiting for connection timeouts. After the open duration, a single probe
+ * call is let through (half-open state); its success closes the breaker, its
+ * failure opens it again.
+ *
+ * Only signs of an unavailable server count as failures: transport errors and
+ * 5xx responses. Client errors such as 404 show the server is up.
+ */
+public final class CircuitBreaker {
+
+    /**
+     * State of a circuit breaker.
+     */
+    public enum State {
+        /** Calls go through. */
+        CLOSED,
+        /** Calls are refused. */
+        OPEN,
+        /** A single probe call is allowed. */
+        HALF_OPEN
+    }
+
+    static final int WINDOW_SIZE = 20;
+    static final int MINIMUM_CALLS = 5;
+
+    private final String name;
+    private final boolean[] failures = new boolean[WINDOW_SIZE];
+
+    private int failureRateThreshold = 50;
+    private long openMillis = 30_000;
+
+    private State state = State.CLOSED;
+    private int next;
+    private int calls;
+    private int failed;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    private long timesOpened;
+    private long rejected;
+
+    CircuitBreaker(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Configures the breaker. The recorded outcomes are kept, so that
+     * reconfiguring a breaker does not hide failures seen by other goals.
+     *
+     * @param failureRateThreshold Failure percentage that opens the breaker, 0
+     *                             to disable it
+     * @param openMillis           How long the breaker stays open before
+     *                             probing, in milliseconds
+     */
+    synchronized void configure(int failureRateThreshold, long openMillis) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /**
+     * Asks whether a call may be made. A caller that gets true must report the
+     * outcome with {@link #onSuccess()}, {@link #onFailure()} or
+     * {@link #onIgnored()}.
+     *
+     * @return false if the call must fail fast
+     */
+    public synchronized boolean tryAcquire() {
+        if (failureRateThreshold <= 0) {
+            // Disabled: outcomes are still recorded but never refuse a call
+            return true;
+        }
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return true;
+        }
+        rejected++;
+        return false;
+    }
+
+    /**
+     * Records a call that reached a working server.
+     */
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Records a call that failed because the server is unavailable.
+     */
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (failureRateThreshold > 0 && calls >= MINIMUM_CALLS
+                    && failed * 100 >= failureRateThreshold * calls) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * Records a call whose outcome says nothing about the server, e.g. a
+     * cancelled one.
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    /**
+     * Returns the current state.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Returns the time left before the next probe, in milliseconds.
+     */
+    public synchronized long getRemainingOpenMillis() {
+        return state == State.OPEN ? Math.max(0, openMillis - (System.currentTimeMillis() - openedAt)) : 0;
+    }
+
+    /**
+     * Returns the host guarded by this breaker.
+     */
+    public String getName() {
+        return name;
+    }
+
+    synchronized long getTimesOpened() {
+        return timesOpened;
+    }
+
+    synchronized long getRejected() {
+        return rejected;
+    }
+
+    private void record(boolean failure) {
+        if (calls == WINDOW_SIZE) {
+            if (failures[next]) {
+                failed--;
+            }
+        } else {
+            calls++;
+        }
+        failures[next] = failure;
+        if (failure) {
+            failed++;
+        }
+        next = (next + 1) % WINDOW_SIZE;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+        probeInFlight = false;
+        timesOpened++;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        probeInFlight = false;
+        calls = 0;
+        failed = 0;
+        next = 0;
+    }
+}
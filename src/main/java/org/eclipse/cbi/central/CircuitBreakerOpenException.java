@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import java.io.IOException;
+
+/**
+ * Raised instead of sending a request while the circuit breaker of its host is
+ * open.
+ */
+public class CircuitBreakerOpenException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception.
+     *
+     * @param host            The unavailable host
+     * @param remainingMillis Time left before the breaker probes the host again
+     */
+    public CircuitBreakerOpenException(String host, long remainingMillis) {
+        super("Circuit breaker open for " + host + " after repeated failures, failing fast (next probe in "
+                + Math.max(1, (remainingMillis + 999) / 1000) + "s)");
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import java.nio.file.Path;
+
+/**
+ * Per-goal settings of a repository client obtained from the
+ * {@link HttpClientRegistry}.
+ *
+ * The settings are part of the key under which the registry shares clients,
+ * so goals configured differently, for instance in a parallel build, get
+ * separate clients instead of changing each other's settings.
+ *
+ * @param transport              The transport sending the requests
+ * @param retryPolicy            The retry policy
+ * @param hedgingPolicy          The hedging policy of status calls
+ * @param responseCacheDirectory The directory of the persistent response
+ *                               cache, or null to disable it
+ * @param responseCacheMaxBytes  Maximum total size of the cached responses
+ * @param responseCacheTtlMillis How long responses without ETag or
+ *                               Last-Modified stay fresh
+ */
+public record ClientSettings(HttpTransport.Type transport, RetryPolicy retryPolicy, HedgingPolicy hedgingPolicy,
+        Path responseCacheDirectory, long responseCacheMaxBytes, long responseCacheTtlMillis) {
+
+    /**
+     * OkHttp transport, default retries, no hedging and no response cache.
+     */
+    public static final ClientSettings DEFAULT = new ClientSettings(HttpTransport.Type.OKHTTP, RetryPolicy.DEFAULT,
+            HedgingPolicy.NONE, null, 0, 0);
+
+    public ClientSettings {
+        transport = transport != null ? transport : HttpTransport.Type.OKHTTP;
+        retryPolicy = retryPolicy != null ? retryPolicy : RetryPolicy.NONE;
+        hedgingPolicy = hedgingPolicy != null ? hedgingPolicy : HedgingPolicy.NONE;
+        responseCacheDirectory = responseCacheDirectory != null
+                ? responseCacheDirectory.toAbsolutePath().normalize()
+                : null;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A component version deployed as part of a Central Portal deployment.
+ *
+ * @param name   The component name (groupId:artifactId)
+ * @param path   The repository path of the component version
+ * @param purl   The package URL, e.g. pkg:maven/org.example/lib@1.0
+ * @param errors Validation errors reported for this component version
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ComponentVersion(String name, String path, String purl, List<String> errors) {
+
+    public ComponentVersion {
+        errors = errors != null ? List.copyOf(errors) : List.of();
+    }
+
+    @JsonCreator
+    static ComponentVersion fromJson(@JsonProperty("name") String name, @JsonProperty("path") String path,
+            @JsonProperty(DeploymentConstants.PURL) String purl,
+            @JsonProperty(DeploymentConstants.ERRORS) Object errors) {
+        return new ComponentVersion(name, path, purl, messages(errors));
+    }
+
+    /**
+     * Returns true if this component version belongs to the given coordinates.
+     *
+     * @param groupId    The group ID
+     * @param artifactId The artifact ID
+     * @param version    The version
+     */
+    public boolean matches(String groupId, String artifactId, String version) {
+        return purl != null && purl.startsWith("pkg:maven/" + groupId + "/" + artifactId + "@" + version);
+    }
+
+    /**
+     * Flattens an errors value, which the API returns either as a list of
+     * messages or as a map of messages per component, into a list of messages.
+     */
+    static List<String> messages(Object errors) {
+        if (errors == null) {
+            return List.of();
+        }
+        if (errors instanceof List<?> list) {
+            if (list.isEmpty()) {
+                return List.of();
+            }
+            List<String> messages = new ArrayList<>(list.size());
+            for (Object error : list) {
+                messages.add(String.valueOf(error));
+            }
+            return messages;
+        }
+        if (errors instanceof Map<?, ?> map) {
+            if (map.isEmpty()) {
+                return List.of();
+            }
+            List<String> messages = new ArrayList<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                for (String message : messages(entry.getValue())) {
+                    messages.add(entry.getKey() + ": " + message);
+                }
+            }
+            return messages;
+        }
+        String message = errors.toString().trim();
+        return message.isEmpty() || "{}".equals(message) || "[]".equals(message) ? List.of() : List.of(message);
+    }
+}
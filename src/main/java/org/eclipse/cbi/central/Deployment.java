@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Central Portal deployment, as returned by the status and listing
+ * endpoints.
+ *
+ * @param deploymentId              The deployment ID
+ * @param deploymentName            The bundle name given at upload time
+ * @param deploymentState           The current state
+ * @param createTimestamp           Creation time in epoch milliseconds, or 0 if
+ *                                  not reported
+ * @param purls                     Package URLs of the deployed components
+ *                                  (status endpoint)
+ * @param deployedComponentVersions Deployed component versions (listing
+ *                                  endpoint)
+ * @param errors                    Validation errors, by component
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record Deployment(String deploymentId, String deploymentName, DeploymentState deploymentState,
+        long createTimestamp, List<String> purls, List<ComponentVersion> deployedComponentVersions,
+        Map<String, List<String>> errors) {
+
+    public Deployment {
+        deploymentState = deploymentState != null ? deploymentState : DeploymentState.UNKNOWN;
+        purls = purls != null ? List.copyOf(purls) : List.of();
+        deployedComponentVersions = deployedComponentVersions != null ? List.copyOf(deployedComponentVersions)
+                : List.of();
+        errors = errors != null ? Map.copyOf(errors) : Map.of();
+    }
+
+    @JsonCreator
+    static Deployment fromJson(@JsonProperty(DeploymentConstants.DEPLOYMENT_ID) String deploymentId,
+            @JsonProperty("deploymentName") String deploymentName,
+            @JsonProperty(DeploymentConstants.DEPLOYMENT_STATE) DeploymentState deploymentState,
+            @JsonProperty(DeploymentConstants.CREATE_TIMESTAMP) Long createTimestamp,
+            @JsonProperty("purls") List<String> purls,
+            @JsonProperty(DeploymentConstants.DEPLOYED_COMPONENT_VERSIONS) List<ComponentVersion> components,
+            @JsonProperty(DeploymentConstants.ERRORS) Object errors) {
+        return new Deployment(deploymentId, deploymentName, deploymentState,
+                createTimestamp != null ? createTimestamp : 0L, purls, components, errorsByComponent(errors));
+    }
+
+    /**
+     * Returns true if the deployment reported no errors. Only the top-level
+     * errors are considered; errors of the component versions are informative.
+     */
+    public boolean hasNoErrors() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * Returns true if one of the deployed component versions belongs to the
+     * given coordinates.
+     *
+     * @param groupId    The group ID
+     * @param artifactId The artifact ID
+     * @param version    The version
+     */
+    public boolean contains(String groupId, String artifactId, String version) {
+        for (ComponentVersion component : deployedComponentVersions) {
+            if (component.matches(groupId, artifactId, version)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Normalizes the errors value to a map of messages by component. Errors not
+     * tied to a component are stored under an empty key. A component listed
+     * without messages is kept, since it is still reported as failing.
+     */
+    private static Map<String, List<String>> errorsByComponent(Object errors) {
+        if (errors instanceof Map<?, ?> map) {
+            Map<String, List<String>> result = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                result.put(String.valueOf(entry.getKey()), ComponentVersion.messages(entry.getValue()));
+            }
+            return result;
+        }
+        List<String> messages = ComponentVersion.messages(errors);
+        return messages.isEmpty() ? Map.of() : Map.of("", messages);
+    }
+}
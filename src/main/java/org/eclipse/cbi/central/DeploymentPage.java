@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * One page of the Central Portal deployment listing.
+ *
+ * @param deployments      The deployments on this page
+ * @param page             The page number
+ * @param pageSize         The requested page size
+ * @param pageCount        The total number of pages, or 0 if not reported
+ * @param totalResultCount The total number of deployments, or 0 if not
+ *                         reported
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record DeploymentPage(List<Deployment> deployments, int page, int pageSize, int pageCount,
+        long totalResultCount) {
+
+    public DeploymentPage {
+        deployments = deployments != null ? List.copyOf(deployments) : List.of();
+    }
+}
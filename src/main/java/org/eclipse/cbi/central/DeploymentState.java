@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+/**
+ * State of a Central Portal deployment.
+ *
+ * States returned by the API that this plugin does not know about map to
+ * {@link #UNKNOWN} instead of failing deserialization.
+ */
+public enum DeploymentState {
+    /** The deployment is pending processing. */
+    PENDING,
+    /** The deployment is currently being validated. */
+    VALIDATING,
+    /** The deployment has been validated successfully. */
+    VALIDATED,
+    /** The deployment is being uploaded to Maven Central. */
+    PUBLISHING,
+    /** The deployment has been published to Central. */
+    PUBLISHED,
+    /** The deployment has failed validation or publishing. */
+    FAILED,
+    /** A state not known to this plugin, or no state at all. */
+    UNKNOWN;
+
+    /**
+     * Maps an API state name to a state.
+     *
+     * @param value The state name, e.g. "VALIDATED"
+     * @return The matching state, or {@link #UNKNOWN}
+     */
+    @JsonCreator
+    public static DeploymentState of(String value) {
+        if (value != null) {
+            for (DeploymentState state : values()) {
+                if (state.name().equalsIgnoreCase(value)) {
+                    return state;
+                }
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Returns true if a deployment in this state can be published (VALIDATED, or
+     * already PUBLISHING).
+     */
+    public boolean isPublishable() {
+        return this == VALIDATED || this == PUBLISHING;
+    }
+
+    /**
+     * Returns true if the deployment is still being processed by Central.
+     */
+    public boolean isInProgress() {
+        return this == PENDING || this == VALIDATING || this == PUBLISHING;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+/**
+ * Classes of repository API endpoints that share a rate limit.
+ */
+public enum EndpointClass {
+
+    /** Status polls and lookups of a single item. */
+    STATUS,
+
+    /** Listings and searches. */
+    LISTING,
+
+    /** Bundle and component uploads. */
+    UPLOAD,
+
+    /** Operations changing server state (publish, drop, delete). */
+    MUTATE;
+
+    /**
+     * Returns the class of a request when the caller did not specify one:
+     * reads are status calls, everything else mutates.
+     */
+    static EndpointClass of(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) ? STATUS : MUTATE;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of the HTTP exchanges with one endpoint: call count, bytes sent and
+ * received, latency distribution and outcomes.
+ *
+ * Every attempt is an exchange, so retries and hedges are counted. The
+ * latency runs from sending the request to the end of the response handling,
+ * which includes reading the response body.
+ */
+final class EndpointMetrics {
+
+    private final String name;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final AtomicLong bytesOut = new AtomicLong();
+    private final AtomicLong bytesIn = new AtomicLong();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the metrics of an endpoint.
+     *
+     * @param name The endpoint, e.g. {@code POST central.sonatype.com/api/v1/publisher/status}
+     */
+    EndpointMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records an exchange.
+     *
+     * @param nanos    Time from sending the request to the end of its handling
+     * @param outcome  The HTTP status code, or the exception type of a failed
+     *                 exchange
+     * @param bytesOut Request body bytes sent
+     * @param bytesIn  Response body bytes received
+     */
+    void record(long nanos, String outcome, long bytesOut, long bytesIn) {
+        latencies.record(nanos);
+        this.bytesOut.addAndGet(bytesOut);
+        this.bytesIn.addAndGet(bytesIn);
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    String getName() {
+        return name;
+    }
+
+    long getCount() {
+        return latencies.count();
+    }
+
+    long getBytesOut() {
+        return bytesOut.get();
+    }
+
+    long getBytesIn() {
+        return bytesIn.get();
+    }
+
+    LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Returns the number of exchanges per outcome, sorted by outcome.
+     */
+    Map<String, Long> getOutcomes() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        outcomes.forEach((outcome, count) -> snapshot.put(outcome, count.sum()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+/**
+ * Hedging policy for latency-sensitive status calls.
+ *
+ * When an idempotent status call has not answered after a delay, an identical
+ * request is sent and the first answer wins; the other requests are cancelled.
+ * The delay is the given percentile of the latencies observed for the same
+ * host and endpoint class during the build, but at least the minimum delay.
+ * No hedge is sent before enough latencies were observed, and hedges are also
+ * limited build-wide to a fraction of the hedgeable calls.
+ */
+public final class HedgingPolicy {
+
+    /**
+     * Policy that never hedges.
+     */
+    public static final HedgingPolicy NONE = new HedgingPolicy(95, 0, 0);
+
+    private final double percentile;
+    private final int maxHedges;
+    private final long minDelayMillis;
+
+    /**
+     * Creates a hedging policy.
+     *
+     * @param percentile     Latency percentile after which a hedge is sent
+     *                       (e.g. 95)
+     * @param maxHedges      Maximum number of hedges per call (0 disables
+     *                       hedging)
+     * @param minDelayMillis Minimum delay before a hedge, in milliseconds
+     */
+    public HedgingPolicy(double percentile, int maxHedges, long minDelayMillis) {
+        if (percentile <= 0 || percentile >= 100 || maxHedges < 0 || minDelayMillis < 0) {
+            throw new IllegalArgumentException("Invalid hedging policy: percentile=" + percentile + ", maxHedges="
+                    + maxHedges + ", minDelay=" + minDelayMillis + "ms");
+        }
+        this.percentile = percentile;
+        this.maxHedges = maxHedges;
+        this.minDelayMillis = minDelayMillis;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public int getMaxHedges() {
+        return maxHedges;
+    }
+
+    public long getMinDelayMillis() {
+        return minDelayMillis;
+    }
+
+    /**
+     * Returns true if calls may be hedged.
+     */
+    public boolean isEnabled() {
+        return maxHedges > 0;
+    }
+
+    /**
+     * Returns the delay before the next hedge of a call.
+     *
+     * @param latencies Latencies observed for the call's host and endpoint
+     *                  class
+     * @return The delay in milliseconds, or -1 if not enough latencies are
+     *         known yet
+     */
+    long hedgeDelay(LatencyTracker latencies) {
+        long observed = latencies.percentileMillis(percentile);
+        return observed < 0 ? -1 : Math.max(minDelayMillis, observed);
+    }
+
+    @Override
+    public String toString() {
+        return "HedgingPolicy[percentile=" + percentile + ", maxHedges=" + maxHedges + ", minDelay="
+                + minDelayMillis + "ms]";
+    }
+}
@@ -0,0 +1,629 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import okhttp3.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Build-wide registry of HTTP resources shared by every repository client.
+ *
+ * All clients created through this registry share a single connection pool,
+ * dispatcher and JSON mapper, so TLS sessions and idle connections survive
+ * from one mojo (or one reactor project) to the next. Repository clients are
+ * cached by type, base URL, timeouts and credentials, which means asking twice
+ * for the same Central Portal or Nexus endpoint returns the same instance.
+ *
+ * Requests are sent by an {@link HttpTransport}, OkHttp by default. The JDK
+ * transport shares one JDK client per connection timeout instead.
+ *
+ * The per-goal settings of a client, such as its retry policy or response
+ * cache, are part of its key: goals with different settings get different
+ * clients and never reconfigure a client used by another goal.
+ *
+ * The registry lives as long as the plugin class realm, which a long-lived
+ * Maven process such as mvnd keeps across builds. Connections, dispatcher and
+ * threads are kept, but the state of a build (clients, retry budget, circuit
+ * breakers, rate limiters, latencies and statistics) is reset when a mojo of
+ * another session {@link #beginSession(Object) begins}.
+ */
+public final class HttpClientRegistry {
+
+    private static final HttpClientRegistry INSTANCE = new HttpClientRegistry();
+
+    // Idle connections kept in the shared pool and how long they stay warm
+    private static final int MAX_IDLE_CONNECTIONS = 32;
+    private static final int KEEP_ALIVE_MINUTES = 5;
+
+    // Concurrent asynchronous calls, overall and per host; OkHttp defaults to 5 per host
+    private static final int MAX_REQUESTS = 64;
+    private static final int MAX_REQUESTS_PER_HOST = 16;
+
+    // Retry budget: initial reserve, retries allowed per request, maximum saved retries
+    private static final int RETRY_RESERVE = 10;
+    private static final double RETRY_RATIO = 0.2;
+    private static final int RETRY_MAX_BALANCE = 100;
+
+    // Hedges allowed before any hedgeable call, and per hedgeable call
+    private static final int HEDGE_RESERVE = 2;
+    private static final double HEDGE_RATIO = 0.1;
+
+    // Interval of the requests keeping a pre-opened connection warm, below
+    // common server and load balancer idle timeouts
+    private static final int KEEP_WARM_SECONDS = 30;
+
+    private final ConnectionPool connectionPool = new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES,
+            TimeUnit.MINUTES);
+    private final Dispatcher dispatcher = new Dispatcher();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OkHttpClient rootClient;
+    private volatile RetryBudget retryBudget = new RetryBudget(RETRY_RESERVE, RETRY_RATIO, RETRY_MAX_BALANCE);
+    private final ScheduledExecutorService scheduler;
+    private final Map<Path, ResponseCache> responseCaches = new ConcurrentHashMap<>();
+    private WeakReference<Object> session = new WeakReference<>(null);
+
+    private final Map<String, OkHttpClient> httpClients = new ConcurrentHashMap<>();
+    private final Map<String, HttpTransport> transports = new ConcurrentHashMap<>();
+    private final Map<Integer, HttpClient> jdkClients = new ConcurrentHashMap<>();
+    private final ExecutorService bodyWriters = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "central-staging-body-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, BaseRepositoryClient> repositoryClients = new ConcurrentHashMap<>();
+    private final Map<String, RateLimiter> rateLimiters = new ConcurrentHashMap<>();
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final Map<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+    private final Map<String, EndpointMetrics> endpointMetrics = new ConcurrentHashMap<>();
+
+    private final AtomicLong clientHits = new AtomicLong();
+    private final AtomicLong clientMisses = new AtomicLong();
+    private final AtomicLong connectionsAcquired = new AtomicLong();
+    private final AtomicLong connectionsOpened = new AtomicLong();
+    private final AtomicLong sharedInFlight = new AtomicLong();
+    private final AtomicLong sharedCompleted = new AtomicLong();
+    private long hedgeableCalls;
+    private long hedgesSent;
+    private final AtomicLong hedgesWon = new AtomicLong();
+
+    private HttpClientRegistry() {
+        dispatcher.setMaxRequests(MAX_REQUESTS);
+        dispatcher.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+        this.rootClient = new OkHttpClient.Builder()
+                .connectionPool(connectionPool)
+                .dispatcher(dispatcher)
+                .eventListener(new PoolUsageListener())
+                .addInterceptor(chain -> {
+                    ResponseCache cache = chain.request().tag(ResponseCache.class);
+                    return cache != null ? cache.intercept(chain) : chain.proceed(chain.request());
+                })
+                .build();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "central-staging-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        this.scheduler = executor;
+    }
+
+    /**
+     * Returns the registry shared by all mojos of the current build.
+     */
+    public static HttpClientRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts using the registry for a build session. When the session is not
+     * the one of the previous call, the state of the previous build is
+     * discarded, so that clients, budgets, circuit breakers and statistics do
+     * not carry over from one build to the next in a long-lived Maven process.
+     * Goals of the same session, including parallel ones, share that state.
+     *
+     * @param session The Maven session of the calling mojo
+     */
+    public synchronized void beginSession(Object session) {
+        if (session == null || this.session.get() == session) {
+            return;
+        }
+        if (this.session.get() != null) {
+            repositoryClients.clear();
+            responseCaches.clear();
+            rateLimiters.clear();
+            circuitBreakers.clear();
+            latencyTrackers.clear();
+            endpointMetrics.clear();
+            retryBudget = new RetryBudget(RETRY_RESERVE, RETRY_RATIO, RETRY_MAX_BALANCE);
+            clientHits.set(0);
+            clientMisses.set(0);
+            connectionsAcquired.set(0);
+            connectionsOpened.set(0);
+            sharedInFlight.set(0);
+            sharedCompleted.set(0);
+            hedgeableCalls = 0;
+            hedgesSent = 0;
+            hedgesWon.set(0);
+        }
+        this.session = new WeakReference<>(session);
+    }
+
+    /**
+     * Returns the shared JSON mapper. ObjectMapper is thread-safe once
+     * configured, so a single instance serves all clients.
+     */
+    public ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Returns the retry budget shared by all clients of the build.
+     */
+    RetryBudget retryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * Returns the scheduler used to delay retries without holding a thread.
+     */
+    ScheduledExecutorService scheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Returns the persistent response cache of the given settings, shared by
+     * all clients using the same directory.
+     *
+     * @param settings The client settings
+     * @return The response cache, or null if disabled or the directory cannot
+     *         be created
+     */
+    private ResponseCache responseCache(ClientSettings settings) {
+        if (settings.responseCacheDirectory() == null) {
+            return null;
+        }
+        return responseCaches.computeIfAbsent(settings.responseCacheDirectory(), directory -> {
+            try {
+                return new ResponseCache(directory, settings.responseCacheMaxBytes(),
+                        settings.responseCacheTtlMillis());
+            } catch (IOException e) {
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Returns the circuit breaker shared by all calls to the host of a URL,
+     * whether made by a repository client or by another transport such as the
+     * artifact resolver.
+     *
+     * @param url Any URL of the host
+     * @return The shared circuit breaker
+     */
+    public CircuitBreaker circuitBreaker(String url) {
+        return circuitBreakers.computeIfAbsent(hostKey(url), CircuitBreaker::new);
+    }
+
+    /**
+     * Configures the circuit breaker of the host of a URL. Breakers of other
+     * hosts keep their own settings, so a goal only configures the hosts it
+     * calls.
+     *
+     * @param url                  Any URL of the host
+     * @param failureRateThreshold Failure percentage that opens the breaker, 0
+     *                             to disable it
+     * @param openMillis           How long the breaker stays open before
+     *                             probing, in milliseconds
+     */
+    public void configureCircuitBreaker(String url, int failureRateThreshold, long openMillis) {
+        circuitBreaker(url).configure(failureRateThreshold, openMillis);
+    }
+
+    /**
+     * Returns the host and port of a URL, used to share per-host state.
+     */
+    static String hostKey(String url) {
+        HttpUrl parsed = HttpUrl.parse(url);
+        return parsed != null ? parsed.host() + ":" + parsed.port() : url;
+    }
+
+    /**
+     * Returns the rate limiter shared by all clients calling an endpoint class
+     * of a host. Limiters are unlimited until a rate is set.
+     *
+     * @param host          The API host, including the port if not the default
+     * @param endpointClass The endpoint class
+     * @return The shared rate limiter
+     */
+    RateLimiter rateLimiter(String host, EndpointClass endpointClass) {
+        String key = host + " " + endpointClass.name().toLowerCase();
+        return rateLimiters.computeIfAbsent(key, RateLimiter::new);
+    }
+
+    /**
+     * Returns the latencies observed for an endpoint class of a host.
+     *
+     * @param host          The API host, including the port if not the default
+     * @param endpointClass The endpoint class
+     * @return The shared latency tracker
+     */
+    LatencyTracker latencyTracker(String host, EndpointClass endpointClass) {
+        return latencyTrackers.computeIfAbsent(host + " " + endpointClass.name().toLowerCase(),
+                key -> new LatencyTracker());
+    }
+
+    /**
+     * Returns the metrics of an endpoint, shared by all clients of the build.
+     *
+     * @param endpoint The HTTP method, host and path of the endpoint
+     * @return The endpoint metrics
+     */
+    EndpointMetrics endpointMetrics(String endpoint) {
+        return endpointMetrics.computeIfAbsent(endpoint, EndpointMetrics::new);
+    }
+
+    /**
+     * Records a call that may be hedged.
+     */
+    synchronized void onHedgeableCall() {
+        hedgeableCalls++;
+    }
+
+    /**
+     * Asks whether a hedge may be sent. Hedges are limited build-wide to a
+     * fraction of the hedgeable calls, so a slow server does not see its load
+     * multiplied.
+     *
+     * @return true if the hedge may be sent
+     */
+    synchronized boolean tryHedge() {
+        if (hedgesSent >= HEDGE_RESERVE + hedgeableCalls * HEDGE_RATIO) {
+            return false;
+        }
+        hedgesSent++;
+        return true;
+    }
+
+    /**
+     * Records a hedge that answered before the original request.
+     */
+    void recordHedgeWon() {
+        hedgesWon.incrementAndGet();
+    }
+
+    /**
+     * Records a request answered by a shared call instead of the network.
+     *
+     * @param inFlight Whether the shared call was still in flight
+     */
+    void recordSharedCall(boolean inFlight) {
+        (inFlight ? sharedInFlight : sharedCompleted).incrementAndGet();
+    }
+
+    /**
+     * Returns an HTTP client with the given timeouts. Clients derived from the
+     * root client share its connection pool and dispatcher.
+     *
+     * @param connectTimeout Connection timeout in seconds
+     * @param readTimeout    Read timeout in seconds
+     * @param writeTimeout   Write timeout in seconds
+     * @return A pooled HTTP client
+     */
+    OkHttpClient httpClient(int connectTimeout, int readTimeout, int writeTimeout) {
+        String key = connectTimeout + "/" + readTimeout + "/" + writeTimeout;
+        return httpClients.computeIfAbsent(key, k -> rootClient.newBuilder()
+                .connectTimeout(connectTimeout, TimeUnit.SECONDS)
+                .readTimeout(readTimeout, TimeUnit.SECONDS)
+                .writeTimeout(writeTimeout, TimeUnit.SECONDS)
+                .build());
+    }
+
+    /**
+     * Returns a transport of the given type with the given timeouts.
+     *
+     * @param type           The transport type
+     * @param connectTimeout Connection timeout in seconds
+     * @param readTimeout    Read timeout in seconds
+     * @param writeTimeout   Write timeout in seconds
+     * @return A shared transport
+     */
+    HttpTransport transport(HttpTransport.Type type, int connectTimeout, int readTimeout, int writeTimeout) {
+        String key = type + "/" + connectTimeout + "/" + readTimeout + "/" + writeTimeout;
+        return transports.computeIfAbsent(key, k -> switch (type) {
+            case OKHTTP -> new OkHttpTransport(httpClient(connectTimeout, readTimeout, writeTimeout));
+            case JDK -> new JdkHttpTransport(jdkClients.computeIfAbsent(connectTimeout, timeout -> HttpClient
+                    .newBuilder()
+                    .connectTimeout(Duration.ofSeconds(timeout))
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build()), readTimeout, writeTimeout, bodyWriters);
+        });
+    }
+
+    /**
+     * Opens a connection to the host of a URL in the background and keeps it
+     * warm, so that DNS resolution, TCP and TLS handshakes overlap with local
+     * work and the first API request goes out on a pooled connection.
+     *
+     * An unauthenticated HEAD request is sent right away and then every
+     * {@value #KEEP_WARM_SECONDS} seconds; responses and failures are ignored.
+     *
+     * @param url            The API URL
+     * @param type           The transport that will send the API requests
+     * @param connectTimeout Connection timeout in seconds
+     * @return A future to cancel once the connection is no longer needed
+     */
+    public Future<?> preconnect(String url, HttpTransport.Type type, int connectTimeout) {
+        HttpTransport transport = transport(type, connectTimeout, connectTimeout, connectTimeout);
+        Request request = new Request.Builder().url(url).head().build();
+        return scheduler.scheduleWithFixedDelay(() -> transport.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                // The API request will report the problem if it persists
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                response.close();
+            }
+        }), 0, KEEP_WARM_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Returns the shared Central Portal client for the given token, URL and
+     * timeouts, creating it on first use.
+     *
+     * @param bearerToken    Authentication token for Central Publisher API
+     * @param baseUrl        Custom API base URL, or null for the default
+     * @param connectTimeout Connection timeout in seconds
+     * @param readTimeout    Read timeout in seconds
+     * @param writeTimeout   Write timeout in seconds
+     * @return A shared CentralPortalClient instance
+     */
+    public CentralPortalClient centralPortalClient(String bearerToken, String baseUrl, int connectTimeout,
+            int readTimeout, int writeTimeout) {
+        return centralPortalClient(bearerToken, baseUrl, connectTimeout, readTimeout, writeTimeout,
+                ClientSettings.DEFAULT);
+    }
+
+    /**
+     * Returns the shared Central Portal client for the given token, URL,
+     * timeouts and settings, creating it on first use.
+     *
+     * @param bearerToken    Authentication token for Central Publisher API
+     * @param baseUrl        Custom API base URL, or null for the default
+     * @param connectTimeout Connection timeout in seconds
+     * @param readTimeout    Read timeout in seconds
+     * @param writeTimeout   Write timeout in seconds
+     * @param settings       The transport, retry, hedging and cache settings
+     * @return A shared CentralPortalClient instance
+     */
+    public CentralPortalClient centralPortalClient(String bearerToken, String baseUrl, int connectTimeout,
+            int readTimeout, int writeTimeout, ClientSettings settings) {
+        // Central responses reflect deployment state and are never cached
+        return repositoryClient(CentralPortalClient.class,
+                key(baseUrl, connectTimeout, readTimeout, writeTimeout, bearerToken, settings), settings, false,
+                () -> new CentralPortalClient(bearerToken, baseUrl, connectTimeout, readTimeout, writeTimeout));
+    }
+
+    /**
+     * Returns the shared Nexus client for the given credentials and URL,
+     * creating it on first use.
+     *
+     * @param username Username for basic authentication
+     * @param password Password for basic authentication
+     * @param baseUrl  Custom API base URL, or null for the default
+     * @return A shared NexusClient instance
+     */
+    public NexusClient nexusClient(String username, String password, String baseUrl) {
+        return nexusClient(username, password, baseUrl, ClientSettings.DEFAULT);
+    }
+
+    /**
+     * Returns the shared Nexus client for the given credentials, URL and
+     * settings, creating it on first use.
+     *
+     * @param username Username for basic authentication
+     * @param password Password for basic authentication
+     * @param baseUrl  Custom API base URL, or null for the default
+     * @param settings The transport, retry, hedging and cache settings
+     * @return A shared NexusClient instance
+     */
+    public NexusClient nexusClient(String username, String password, String baseUrl, ClientSettings settings) {
+        return repositoryClient(NexusClient.class, key(baseUrl, username, password, settings), settings, true,
+                () -> new NexusClient(username, password, baseUrl));
+    }
+
+    private <T extends BaseRepositoryClient> T repositoryClient(Class<T> type, String key, ClientSettings settings,
+            boolean cached, Supplier<T> factory) {
+        String fullKey = type.getName() + "|" + key;
+        BaseRepositoryClient existing = repositoryClients.get(fullKey);
+        if (existing != null) {
+            clientHits.incrementAndGet();
+            return type.cast(existing);
+        }
+        return type.cast(repositoryClients.computeIfAbsent(fullKey, k -> {
+            clientMisses.incrementAndGet();
+            T client = factory.get();
+            client.configure(settings, cached ? responseCache(settings) : null);
+            return client;
+        }));
+    }
+
+    /**
+     * Builds a cache key without keeping credentials in clear text.
+     */
+    private static String key(String baseUrl, Object... parts) {
+        StringBuilder material = new StringBuilder();
+        for (Object part : parts) {
+            material.append(part).append('\u0000');
+        }
+        return (baseUrl != null && !baseUrl.isEmpty() ? baseUrl : "default") + "|"
+                + DigestUtils.sha256Hex(material.toString());
+    }
+
+    /**
+     * Returns human-readable statistics about client and connection reuse,
+     * suitable for the end-of-goal summary.
+     */
+    public List<String> statistics() {
+        long acquired = connectionsAcquired.get();
+        long opened = connectionsOpened.get();
+        long reused = Math.max(0, acquired - opened);
+
+        List<String> lines = new ArrayList<>();
+        lines.add("Repository clients:   " + clientHits.get() + " reused, " + clientMisses.get() + " created");
+        lines.add("HTTP connections:     " + reused + " reused, " + opened + " opened"
+                + (acquired > 0 ? String.format(" (%.1f%% pool hits)", reused * 100.0 / acquired) : ""));
+        lines.add("Connection pool:      " + connectionPool.connectionCount() + " open, "
+                + connectionPool.idleConnectionCount() + " idle");
+        lines.add("Retries:              " + retryBudget.getRetries() + " retried, "
+                + String.format("%.1fs", retryBudget.getBackoffMillis() / 1000.0) + " backing off, "
+                + retryBudget.getDenied() + " denied by retry budget");
+        for (ResponseCache cache : responseCaches.values()) {
+            lines.add("Response cache:       " + cache.getHits() + " hits, " + cache.getRevalidated()
+                    + " revalidated, " + cache.getMisses() + " stored, " + cache.getEvicted() + " evicted");
+        }
+        lines.add("Shared requests:      " + (sharedInFlight.get() + sharedCompleted.get()) + " calls saved ("
+                + sharedInFlight.get() + " joined in flight, " + sharedCompleted.get() + " recent results)");
+        synchronized (this) {
+            if (hedgeableCalls > 0) {
+                lines.add("Hedged requests:      " + hedgesSent + " hedges for " + hedgeableCalls + " calls, "
+                        + hedgesWon.get() + " answered first");
+            }
+        }
+        for (CircuitBreaker breaker : circuitBreakers.values()) {
+            if (breaker.getTimesOpened() > 0) {
+                lines.add("Circuit breaker:      " + breaker.getName() + ": " + breaker.getState() + ", opened "
+                        + breaker.getTimesOpened() + " time(s), " + breaker.getRejected() + " calls failed fast");
+            }
+        }
+        for (RateLimiter limiter : rateLimiters.values()) {
+            if (limiter.isLimited() || limiter.getDelayed() > 0) {
+                lines.add("Rate limit:           " + limiter.getName() + ": " + limiter.getPermits() + " requests, "
+                        + limiter.getDelayed() + " delayed, "
+                        + String.format("%.1fs", limiter.getWaitNanos() / 1e9) + " waiting");
+            }
+        }
+        for (EndpointMetrics metrics : new TreeMap<>(endpointMetrics).values()) {
+            LatencyHistogram latencies = metrics.getLatencies();
+            StringBuilder outcomes = new StringBuilder();
+            metrics.getOutcomes().forEach((outcome, count) -> outcomes.append(outcomes.length() > 0 ? ", " : "")
+                    .append(outcome).append(" x").append(count));
+            lines.add("Endpoint:             " + metrics.getName());
+            lines.add("                      " + metrics.getCount() + " calls, p50 "
+                    + formatMicros(latencies.percentileMicros(50)) + ", p90 "
+                    + formatMicros(latencies.percentileMicros(90)) + ", p99 "
+                    + formatMicros(latencies.percentileMicros(99)) + ", max " + formatMicros(latencies.maxMicros())
+                    + ", " + formatBytes(metrics.getBytesOut()) + " sent, " + formatBytes(metrics.getBytesIn())
+                    + " received, status " + outcomes);
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the HTTP metrics of the build as JSON: connection reuse and, per
+     * endpoint, call count, bytes, latency percentiles and status codes.
+     *
+     * @param file The JSON file, replaced if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void writeMetrics(Path file) throws IOException {
+        long acquired = connectionsAcquired.get();
+        long opened = connectionsOpened.get();
+        Map<String, Object> connections = new LinkedHashMap<>();
+        connections.put("acquired", acquired);
+        connections.put("opened", opened);
+        connections.put("reuseRatio", acquired > 0 ? Math.max(0, acquired - opened) / (double) acquired : 0);
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (EndpointMetrics metrics : new TreeMap<>(endpointMetrics).values()) {
+            LatencyHistogram latencies = metrics.getLatencies();
+            Map<String, Object> latency = new LinkedHashMap<>();
+            latency.put("p50", latencies.percentileMicros(50) / 1000.0);
+            latency.put("p90", latencies.percentileMicros(90) / 1000.0);
+            latency.put("p99", latencies.percentileMicros(99) / 1000.0);
+            latency.put("max", latencies.maxMicros() / 1000.0);
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", metrics.getName());
+            endpoint.put("calls", metrics.getCount());
+            endpoint.put("bytesSent", metrics.getBytesOut());
+            endpoint.put("bytesReceived", metrics.getBytesIn());
+            endpoint.put("latencyMillis", latency);
+            endpoint.put("status", metrics.getOutcomes());
+            endpoints.add(endpoint);
+        }
+
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("connections", connections);
+        document.put("endpoints", endpoints);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), document);
+    }
+
+    private static String formatMicros(long micros) {
+        if (micros < 1000) {
+            return String.format("%.2fms", micros / 1000.0);
+        } else if (micros < 10_000_000) {
+            return String.format("%.0fms", micros / 1000.0);
+        }
+        return String.format("%.1fs", micros / 1e6);
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        } else if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024));
+    }
+
+    /**
+     * Counts connection acquisitions and new connections to derive the pool
+     * hit ratio.
+     */
+    private final class PoolUsageListener extends EventListener {
+        @Override
+        public void connectEnd(Call call, java.net.InetSocketAddress inetSocketAddress, java.net.Proxy proxy,
+                Protocol protocol) {
+            connectionsOpened.incrementAndGet();
+        }
+
+        @Override
+        public void connectionAcquired(Call call, Connection connection) {
+            connectionsAcquired.incrementAndGet();
+        }
+    }
+}
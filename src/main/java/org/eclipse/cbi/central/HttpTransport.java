@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import okhttp3.Call;
+import okhttp3.Request;
+
+/**
+ * Sends the HTTP requests of the repository clients.
+ *
+ * Requests and responses are described with the OkHttp model whatever the
+ * transport, so request building and response handling do not depend on it.
+ * Transports are obtained from the {@link HttpClientRegistry} and shared by all
+ * clients of the build.
+ */
+public interface HttpTransport {
+
+    /**
+     * Available transports.
+     */
+    enum Type {
+        /** OkHttp, with the shared connection pool and the response cache. */
+        OKHTTP,
+        /** The JDK {@code java.net.http.HttpClient}, with HTTP/2 multiplexing. */
+        JDK
+    }
+
+    /**
+     * Prepares a request to be sent.
+     *
+     * @param request The HTTP request
+     * @return A call that can be executed, enqueued or cancelled once
+     */
+    Call newCall(Request request);
+
+    /**
+     * Returns the type of this transport.
+     */
+    Type getType();
+}
@@ -0,0 +1,396 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import okhttp3.*;
+import okio.AsyncTimeout;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.Okio;
+import okio.Pipe;
+import okio.Source;
+import okio.Timeout;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Transport sending requests with the JDK {@link HttpClient}.
+ *
+ * The JDK client negotiates HTTP/2 with servers supporting it, so concurrent
+ * requests to a host are multiplexed over a single connection, and it sends
+ * requests asynchronously without a dispatcher thread per call.
+ *
+ * OkHttp requests are converted when sent and JDK responses are exposed as
+ * OkHttp responses whose body streams from the network. Small request bodies
+ * are sent from memory; larger ones (bundle uploads) are streamed through a
+ * bounded pipe written by a separate thread, so files are never loaded in
+ * memory. The JDK client has no read or write timeout, so they are emulated
+ * like OkHttp applies them:
+ * <ul>
+ * <li>A streamed body fails when a single write to the pipe waits longer than
+ * the write timeout, however long the whole upload takes. Once it is written,
+ * the response headers must arrive within the read timeout.</li>
+ * <li>For other requests, the read timeout, plus the write timeout for a
+ * buffered body, limits the time until the response headers arrive.</li>
+ * <li>The read timeout applies to each read of the response body: a body
+ * stalled for longer is closed, which aborts the exchange, and the read fails
+ * like an OkHttp read timeout.</li>
+ * </ul>
+ */
+final class JdkHttpTransport implements HttpTransport {
+
+    // Request bodies up to this size are buffered instead of streamed
+    private static final long MAX_BUFFERED_BODY = 1024 * 1024;
+    private static final long PIPE_SIZE = 1024 * 1024;
+
+    // Headers set by the JDK client itself, which it refuses from callers
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect",
+            "host", "upgrade");
+
+    private final HttpClient client;
+    private final Duration readTimeout;
+    private final Duration writeTimeout;
+    private final ExecutorService bodyWriters;
+
+    /**
+     * Creates a transport.
+     *
+     * @param client       The JDK client, possibly shared with other transports
+     * @param readTimeout  Read timeout in seconds, 0 for none
+     * @param writeTimeout Write timeout in seconds, 0 for none
+     * @param bodyWriters  Executor writing streamed request bodies
+     */
+    JdkHttpTransport(HttpClient client, int readTimeout, int writeTimeout, ExecutorService bodyWriters) {
+        this.client = client;
+        this.readTimeout = Duration.ofSeconds(readTimeout);
+        this.writeTimeout = Duration.ofSeconds(writeTimeout);
+        this.bodyWriters = bodyWriters;
+    }
+
+    @Override
+    public Call newCall(Request request) {
+        return new JdkCall(request);
+    }
+
+    @Override
+    public Type getType() {
+        return Type.JDK;
+    }
+
+    /**
+     * Converts a request. A streamed body calls the given listener once it
+     * was written entirely.
+     */
+    private HttpRequest convert(Request request, Runnable bodyWritten) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.url().uri());
+        for (Map.Entry<String, List<String>> header : request.headers().toMultimap().entrySet()) {
+            if (!RESTRICTED_HEADERS.contains(header.getKey())) {
+                for (String value : header.getValue()) {
+                    builder.header(header.getKey(), value);
+                }
+            }
+        }
+        RequestBody body = request.body();
+        Duration timeout = readTimeout;
+        if (body == null) {
+            builder.method(request.method(), HttpRequest.BodyPublishers.noBody());
+        } else {
+            if (body.contentType() != null && request.header("Content-Type") == null) {
+                builder.header("Content-Type", body.contentType().toString());
+            }
+            if (isStreamed(body)) {
+                // Timed by the pipe and once the body was written
+                builder.method(request.method(), streamPublisher(body, bodyWritten));
+                timeout = Duration.ZERO;
+            } else {
+                builder.method(request.method(), bufferedPublisher(body));
+                timeout = timeout.plus(writeTimeout);
+            }
+        }
+        if (!timeout.isZero()) {
+            builder.timeout(timeout);
+        }
+        return builder.build();
+    }
+
+    private static boolean isStreamed(RequestBody body) throws IOException {
+        long length = body.contentLength();
+        return length < 0 || length > MAX_BUFFERED_BODY;
+    }
+
+    private static HttpRequest.BodyPublisher bufferedPublisher(RequestBody body) throws IOException {
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        return HttpRequest.BodyPublishers.ofByteArray(buffer.readByteArray());
+    }
+
+    private HttpRequest.BodyPublisher streamPublisher(RequestBody body, Runnable bodyWritten) throws IOException {
+        long length = body.contentLength();
+        HttpRequest.BodyPublisher stream = HttpRequest.BodyPublishers.ofInputStream(() -> {
+            Pipe pipe = new Pipe(PIPE_SIZE);
+            // Each write waits for the client to take data from the full pipe
+            // at most this long, like the OkHttp write timeout
+            pipe.sink().timeout().timeout(writeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            bodyWriters.execute(() -> {
+                try (BufferedSink sink = Okio.buffer(pipe.sink())) {
+                    body.writeTo(sink);
+                } catch (IOException e) {
+                    // The truncated body fails the request on the reading side
+                    pipe.cancel();
+                    return;
+                }
+                bodyWritten.run();
+            });
+            return Okio.buffer(pipe.source()).inputStream();
+        });
+        return length >= 0 ? HttpRequest.BodyPublishers.fromPublisher(stream, length) : stream;
+    }
+
+    private Response convert(Request request, HttpResponse<InputStream> response) {
+        Headers.Builder headers = new Headers.Builder();
+        for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+            if (!header.getKey().startsWith(":")) {
+                for (String value : header.getValue()) {
+                    headers.addUnsafeNonAscii(header.getKey(), value);
+                }
+            }
+        }
+        String contentType = response.headers().firstValue("Content-Type").orElse(null);
+        long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        return new Response.Builder()
+                .request(request)
+                .protocol(response.version() == HttpClient.Version.HTTP_2 ? Protocol.HTTP_2 : Protocol.HTTP_1_1)
+                .code(response.statusCode())
+                .message("")
+                .headers(headers.build())
+                .body(ResponseBody.create(Okio.buffer(withReadTimeout(response.body())),
+                        contentType != null ? MediaType.parse(contentType) : null, contentLength))
+                .build();
+    }
+
+    /**
+     * Limits each read of a response body to the read timeout. A read blocked
+     * for longer is woken up by closing the stream.
+     */
+    private Source withReadTimeout(InputStream body) {
+        AsyncTimeout timeout = new AsyncTimeout() {
+            @Override
+            protected void timedOut() {
+                closeQuietly(body);
+            }
+        };
+        timeout.timeout(readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        return timeout.source(Okio.source(body));
+    }
+
+    private static IOException wrap(Throwable error) {
+        return error instanceof IOException io ? io : new IOException(error);
+    }
+
+    private static IOException unwrap(Throwable error) {
+        Throwable cause = error instanceof CompletionException || error instanceof ExecutionException
+                ? error.getCause()
+                : error;
+        return cause instanceof IOException io ? io : new IOException(cause);
+    }
+
+    /**
+     * A request sent with the JDK client, following the OkHttp call contract:
+     * it runs once, and a cancelled call reports a failure to its callback.
+     */
+    private final class JdkCall implements Call {
+        private final Request request;
+        private final AtomicBoolean executed = new AtomicBoolean();
+        private volatile boolean canceled;
+        private volatile CompletableFuture<HttpResponse<InputStream>> exchange;
+        private volatile boolean timedOut;
+        private volatile boolean bodyWritten;
+
+        JdkCall(Request request) {
+            this.request = request;
+        }
+
+        @Override
+        public Request request() {
+            return request;
+        }
+
+        @Override
+        public Response execute() throws IOException {
+            markExecuted();
+            CompletableFuture<HttpResponse<InputStream>> future = send();
+            try {
+                return convert(request, future.get());
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for response");
+            } catch (CancellationException e) {
+                throw timedOut ? timeoutException() : new IOException("Canceled");
+            } catch (ExecutionException e) {
+                throw unwrap(e);
+            }
+        }
+
+        @Override
+        public void enqueue(Callback callback) {
+            markExecuted();
+            CompletableFuture<HttpResponse<InputStream>> future;
+            try {
+                future = send();
+            } catch (IOException e) {
+                callback.onFailure(this, e);
+                return;
+            }
+            future.whenComplete((response, error) -> {
+                if (canceled) {
+                    if (response != null) {
+                        closeQuietly(response.body());
+                    }
+                    callback.onFailure(this, new IOException("Canceled"));
+                } else if (timedOut) {
+                    callback.onFailure(this, timeoutException());
+                } else if (error != null) {
+                    callback.onFailure(this, unwrap(error));
+                } else {
+                    respond(callback, response);
+                }
+            });
+        }
+
+        /**
+         * Passes a response to the callback. Failures of the conversion or of
+         * the callback itself are reported to the callback, since they would
+         * otherwise be lost in the completion stage and leave the caller
+         * waiting; a caller that already completed ignores them.
+         */
+        private void respond(Callback callback, HttpResponse<InputStream> response) {
+            Response converted;
+            try {
+                converted = convert(request, response);
+            } catch (Throwable e) {
+                closeQuietly(response.body());
+                callback.onFailure(this, wrap(e));
+                return;
+            }
+            try {
+                callback.onResponse(this, converted);
+            } catch (Throwable e) {
+                callback.onFailure(this, wrap(e));
+            }
+        }
+
+        /**
+         * Starts waiting for the response headers once a streamed body was
+         * written, for at most the read timeout.
+         */
+        private void bodyWritten() {
+            bodyWritten = true;
+            CompletableFuture<HttpResponse<InputStream>> future = exchange;
+            if (future != null) {
+                startResponseTimeout(future);
+            }
+        }
+
+        private void startResponseTimeout(CompletableFuture<HttpResponse<InputStream>> future) {
+            if (readTimeout.isZero()) {
+                return;
+            }
+            CompletableFuture.delayedExecutor(readTimeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+                if (!future.isDone()) {
+                    timedOut = true;
+                    future.cancel(true);
+                }
+            });
+        }
+
+        private IOException timeoutException() {
+            return new HttpTimeoutException("No response within " + readTimeout.toSeconds()
+                    + " s after sending the request body");
+        }
+
+        private CompletableFuture<HttpResponse<InputStream>> send() throws IOException {
+            if (canceled) {
+                throw new IOException("Canceled");
+            }
+            CompletableFuture<HttpResponse<InputStream>> future = client.sendAsync(
+                    convert(request, this::bodyWritten), HttpResponse.BodyHandlers.ofInputStream());
+            exchange = future;
+            if (canceled) {
+                future.cancel(true);
+            } else if (bodyWritten) {
+                // Written before the exchange was known
+                startResponseTimeout(future);
+            }
+            return future;
+        }
+
+        private void markExecuted() {
+            if (!executed.compareAndSet(false, true)) {
+                throw new IllegalStateException("Already Executed");
+            }
+        }
+
+        @Override
+        public void cancel() {
+            canceled = true;
+            CompletableFuture<HttpResponse<InputStream>> future = exchange;
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+
+        @Override
+        public boolean isExecuted() {
+            return executed.get();
+        }
+
+        @Override
+        public boolean isCanceled() {
+            return canceled;
+        }
+
+        @Override
+        public Timeout timeout() {
+            return Timeout.NONE;
+        }
+
+        @Override
+        public Call clone() {
+            return new JdkCall(request);
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            // Nothing to do, the exchange is abandoned
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming JSON reader that keeps only selected fields of a response.
+ *
+ * The document is read token by token from the response stream. Fields listed
+ * in {@code fields} are kept; when their value is an object or an array, the
+ * same filter applies to its content. Fields listed in {@code subtrees} are
+ * kept as a whole. Every other value is skipped without being materialized, so
+ * large listings never exist in memory as a String or a full object tree.
+ */
+final class JsonFieldFilter {
+
+    private final Set<String> fields;
+    private final Set<String> subtrees;
+
+    /**
+     * Creates a field filter.
+     *
+     * @param fields   Names of the fields to keep, filtered recursively
+     * @param subtrees Names of the fields to keep with their whole content
+     */
+    JsonFieldFilter(Set<String> fields, Set<String> subtrees) {
+        this.fields = fields;
+        this.subtrees = subtrees;
+    }
+
+    /**
+     * Reads a JSON object from a stream, keeping only the selected fields.
+     *
+     * @param mapper The mapper used to read kept subtrees
+     * @param in     The JSON input
+     * @return The filtered object
+     * @throws IOException if the input is not a valid JSON object
+     */
+    Map<String, Object> read(ObjectMapper mapper, InputStream in) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object but found " + parser.currentToken());
+            }
+            return readObject(mapper, parser);
+        }
+    }
+
+    private Map<String, Object> readObject(ObjectMapper mapper, JsonParser parser) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (subtrees.contains(name)) {
+                result.put(name, mapper.readValue(parser, Object.class));
+            } else if (fields.contains(name)) {
+                result.put(name, readValue(mapper, parser, token));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    private Object readValue(ObjectMapper mapper, JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case START_OBJECT:
+                return readObject(mapper, parser);
+            case START_ARRAY:
+                List<Object> values = new ArrayList<>();
+                JsonToken element;
+                while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    values.add(readValue(mapper, parser, element));
+                }
+                return values;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                return parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                return mapper.readValue(parser, Object.class);
+        }
+    }
+}
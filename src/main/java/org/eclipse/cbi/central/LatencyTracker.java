@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of the most recent calls to an endpoint class of a host.
+ *
+ * The last {@value #WINDOW_SIZE} latencies are kept, so percentiles follow the
+ * server's current behaviour rather than the whole build. Percentiles are only
+ * reported once {@value #MINIMUM_SAMPLES} latencies were observed.
+ */
+final class LatencyTracker {
+
+    static final int WINDOW_SIZE = 128;
+    static final int MINIMUM_SAMPLES = 10;
+
+    private final long[] samples = new long[WINDOW_SIZE];
+    private int next;
+    private int count;
+
+    /**
+     * Records the latency of a call.
+     *
+     * @param nanos Time from sending the request to receiving the response
+     */
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % WINDOW_SIZE;
+        if (count < WINDOW_SIZE) {
+            count++;
+        }
+    }
+
+    /**
+     * Returns a percentile of the recorded latencies.
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @return The latency in milliseconds, or -1 if too few were recorded
+     */
+    long percentileMillis(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (count < MINIMUM_SAMPLES) {
+                return -1;
+            }
+            sorted = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.Map;
+
+/**
+ * An asset (file) of a Nexus component.
+ *
+ * @param id          The asset ID
+ * @param path        The repository path of the file
+ * @param downloadUrl The URL to download the file from
+ * @param repository  The repository holding the asset
+ * @param format      The repository format, e.g. maven2
+ * @param contentType The content type of the file
+ * @param fileSize    The file size in bytes, or 0 if not reported
+ * @param checksum    Checksums by algorithm name (md5, sha1, sha256, sha512)
+ * @param maven2      Maven coordinates of the file, or null for other formats
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NexusAsset(String id, String path, String downloadUrl, String repository, String format,
+        String contentType, long fileSize, Map<String, String> checksum, Maven2 maven2) {
+
+    public NexusAsset {
+        checksum = checksum != null ? Map.copyOf(checksum) : Map.of();
+    }
+
+    /**
+     * Maven coordinates of an asset.
+     *
+     * @param groupId    The group ID
+     * @param artifactId The artifact ID
+     * @param version    The version
+     * @param extension  The file extension, e.g. jar or jar.asc
+     * @param classifier The classifier, or null
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Maven2(String groupId, String artifactId, String version, String extension,
+            String classifier) {
+    }
+}
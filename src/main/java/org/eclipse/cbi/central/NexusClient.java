@@ -11,8 +11,19 @@
 package org.eclipse.cbi.central;
 
 import okhttp3.*;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import okio.Okio;
 import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * Nexus Repository Manager REST API Client.
@@ -28,6 +39,9 @@ import java.util.Map;
  * 3. Security and access control
  * 4. Staging and promotion workflows
  * 
+ * Each operation is available as a blocking method and as an asynchronous
+ * {@code ...Async} variant returning a {@link CompletableFuture}.
+ * 
  * @see <a href=
  *      "https://help.sonatype.com/repomanager3/rest-and-integration-api">Nexus
  *      Repository Manager REST API Documentation</a>
@@ -40,8 +54,18 @@ public class NexusClient extends BaseRepositoryClient {
     private static final String CTX_DELETE_COMPONENT = "Delete component";
     private static final String CTX_UPLOAD_COMPONENT = "Upload component";
     private static final String CTX_LIST_REPOSITORIES = "List repositories";
+    private static final String CTX_DOWNLOAD_ASSET = "Download asset";
+
+    /**
+     * Suffix of the temporary file an asset is downloaded to, next to its
+     * target, before it is moved in place.
+     */
+    public static final String PARTIAL_FILE_SUFFIX = ".part";
 
-    private static final String DEFAULT_BASE_URL = "https://repo.eclipse.org/service/rest/v1";
+    private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
+
+    /** Nexus REST API URL used when no custom URL is configured. */
+    public static final String DEFAULT_BASE_URL = "https://repo.eclipse.org/service/rest/v1";
 
     /**
      * Creates a new Nexus Repository Manager API client with default base URL.
@@ -72,14 +96,21 @@ public class NexusClient extends BaseRepositoryClient {
      * @throws IOException if the request fails
      */
     public Map<String, Object> listRepositories() throws IOException {
+        return await(listRepositoriesAsync());
+    }
+
+    /**
+     * Asynchronous variant of {@link #listRepositories()}.
+     *
+     * @return A future of the repositories
+     */
+    public CompletableFuture<Map<String, Object>> listRepositoriesAsync() {
         String url = baseUrl + "/repositories";
-        Request request = baseRequest(url).get().build();
-        try (Response response = client.newCall(request).execute()) {
-            return handleResponse(response, Map.of(
-                    401, errorDescription(401, CTX_LIST_REPOSITORIES),
-                    403, errorDescription(403, CTX_LIST_REPOSITORIES),
-                    500, errorDescription(500, CTX_LIST_REPOSITORIES)), true);
-        }
+        Request request = cacheable(baseRequest(url).get().build());
+        return executeAsync(request, response -> handleResponse(response, Map.of(
+                401, errorDescription(401, CTX_LIST_REPOSITORIES),
+                403, errorDescription(403, CTX_LIST_REPOSITORIES),
+                500, errorDescription(500, CTX_LIST_REPOSITORIES)), true), EndpointClass.LISTING);
     }
 
     /**
@@ -94,6 +125,121 @@ public class NexusClient extends BaseRepositoryClient {
      */
     public Map<String, Object> searchComponents(String repository, String group, String name, String version)
             throws IOException {
+        return await(searchComponentsAsync(repository, group, name, version));
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link #searchComponents(String, String, String, String)}.
+     *
+     * @param repository The repository to search in (null for all repositories)
+     * @param group      The group/namespace to search for
+     * @param name       The component name to search for
+     * @param version    The version to search for
+     * @return A future of the search results
+     */
+    public CompletableFuture<Map<String, Object>> searchComponentsAsync(String repository, String group, String name,
+            String version) {
+        return executeAsync(searchRequest(repository, group, name, version, null),
+                response -> handleResponse(response, searchErrors(), true), EndpointClass.LISTING);
+    }
+
+    /**
+     * Searches for components like
+     * {@link #searchComponents(String, String, String, String)} and returns the
+     * first page as a typed {@link NexusSearchResult}.
+     *
+     * @param repository The repository to search in (null for all repositories)
+     * @param group      The group/namespace to search for
+     * @param name       The component name to search for
+     * @param version    The version to search for
+     * @return The first page of search results
+     * @throws IOException if the request fails
+     */
+    public NexusSearchResult search(String repository, String group, String name, String version)
+            throws IOException {
+        return await(searchAsync(repository, group, name, version));
+    }
+
+    /**
+     * Asynchronous variant of {@link #search(String, String, String, String)}.
+     *
+     * @param repository The repository to search in (null for all repositories)
+     * @param group      The group/namespace to search for
+     * @param name       The component name to search for
+     * @param version    The version to search for
+     * @return A future of the first page of search results
+     */
+    public CompletableFuture<NexusSearchResult> searchAsync(String repository, String group, String name,
+            String version) {
+        return searchAsync(repository, group, name, version, null);
+    }
+
+    /**
+     * Requests one page of search results.
+     *
+     * @param repository        The repository to search in (null for all
+     *                          repositories)
+     * @param group             The group/namespace to search for
+     * @param name              The component name to search for
+     * @param version           The version to search for
+     * @param continuationToken The token returned with the previous page, or
+     *                          null for the first page
+     * @return A future of the requested page of search results
+     */
+    public CompletableFuture<NexusSearchResult> searchAsync(String repository, String group, String name,
+            String version, String continuationToken) {
+        return executeAsync(searchRequest(repository, group, name, version, continuationToken),
+                response -> handleResponse(response, searchErrors(), NexusSearchResult.class),
+                EndpointClass.LISTING);
+    }
+
+    /**
+     * Searches for components and follows the continuation tokens returned by
+     * Nexus, prefetching the next page while the current one is consumed.
+     *
+     * @param repository The repository to search in (null for all repositories)
+     * @param group      The group/namespace to search for
+     * @param name       The component name to search for
+     * @param version    The version to search for
+     * @return A lazy stream of all matching components, see
+     *         {@link #searchAll(String, String, String, String, boolean)}
+     */
+    public Stream<NexusComponent> searchAll(String repository, String group, String name, String version) {
+        return searchAll(repository, group, name, version, true);
+    }
+
+    /**
+     * Searches for components and follows the continuation tokens returned by
+     * Nexus as a lazy stream.
+     *
+     * Pages are requested on demand, so callers can process the components of
+     * the first page while the next one is in flight. The stream should be
+     * closed (e.g. with try-with-resources) when it is not consumed entirely,
+     * to cancel the prefetch. API failures are thrown as
+     * {@link java.io.UncheckedIOException}.
+     *
+     * @param repository The repository to search in (null for all repositories)
+     * @param group      The group/namespace to search for
+     * @param name       The component name to search for
+     * @param version    The version to search for
+     * @param prefetch   Whether to request the next page while the current one
+     *                   is consumed
+     * @return A lazy stream of all matching components
+     */
+    public Stream<NexusComponent> searchAll(String repository, String group, String name, String version,
+            boolean prefetch) {
+        return new PagedSpliterator<NexusSearchResult, NexusComponent>(
+                searchAsync(repository, group, name, version),
+                NexusSearchResult::items,
+                (page, result) -> result.continuationToken() == null ? null
+                        : searchAsync(repository, group, name, version, result.continuationToken()),
+                prefetch)
+                .stream();
+    }
+
+    private Request searchRequest(String repository, String group, String name, String version,
+            String continuationToken) {
         StringBuilder urlBuilder = new StringBuilder(baseUrl + "/search");
         urlBuilder.append("?");
         if (repository != null && !repository.isEmpty()) {
@@ -108,16 +254,21 @@ public class NexusClient extends BaseRepositoryClient {
         if (version != null && !version.isEmpty()) {
             urlBuilder.append("version=").append(version).append("&");
         }
+        if (continuationToken != null && !continuationToken.isEmpty()) {
+            urlBuilder.append("continuationToken=")
+                    .append(URLEncoder.encode(continuationToken, StandardCharsets.UTF_8)).append("&");
+        }
         String url = urlBuilder.toString();
 
-        Request request = baseRequest(url).get().build();
-        try (Response response = client.newCall(request).execute()) {
-            return handleResponse(response, Map.of(
-                    400, errorDescription(400, CTX_SEARCH_COMPONENTS),
-                    401, errorDescription(401, CTX_SEARCH_COMPONENTS),
-                    403, errorDescription(403, CTX_SEARCH_COMPONENTS),
-                    500, errorDescription(500, CTX_SEARCH_COMPONENTS)), true);
-        }
+        return cacheable(baseRequest(url).get().build());
+    }
+
+    private Map<Integer, String> searchErrors() {
+        return Map.of(
+                400, errorDescription(400, CTX_SEARCH_COMPONENTS),
+                401, errorDescription(401, CTX_SEARCH_COMPONENTS),
+                403, errorDescription(403, CTX_SEARCH_COMPONENTS),
+                500, errorDescription(500, CTX_SEARCH_COMPONENTS));
     }
 
     /**
@@ -128,15 +279,23 @@ public class NexusClient extends BaseRepositoryClient {
      * @throws IOException if the request fails
      */
     public Map<String, Object> getComponent(String componentId) throws IOException {
+        return await(getComponentAsync(componentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getComponent(String)}.
+     *
+     * @param componentId The component ID
+     * @return A future of the component details
+     */
+    public CompletableFuture<Map<String, Object>> getComponentAsync(String componentId) {
         String url = baseUrl + "/components/" + componentId;
         Request request = baseRequest(url).get().build();
-        try (Response response = client.newCall(request).execute()) {
-            return handleResponse(response, Map.of(
-                    401, errorDescription(401, CTX_GET_COMPONENT),
-                    403, errorDescription(403, CTX_GET_COMPONENT),
-                    404, errorDescription(404, CTX_COMPONENT_NOT_FOUND),
-                    500, errorDescription(500, CTX_GET_COMPONENT)), true);
-        }
+        return executeAsync(request, response -> handleResponse(response, Map.of(
+                401, errorDescription(401, CTX_GET_COMPONENT),
+                403, errorDescription(403, CTX_GET_COMPONENT),
+                404, errorDescription(404, CTX_COMPONENT_NOT_FOUND),
+                500, errorDescription(500, CTX_GET_COMPONENT)), true), EndpointClass.STATUS);
     }
 
     /**
@@ -147,9 +306,19 @@ public class NexusClient extends BaseRepositoryClient {
      * @throws IOException if the request fails
      */
     public Map<String, Object> deleteComponent(String componentId) throws IOException {
+        return await(deleteComponentAsync(componentId));
+    }
+
+    /**
+     * Asynchronous variant of {@link #deleteComponent(String)}.
+     *
+     * @param componentId The component ID to delete
+     * @return A future of the delete result
+     */
+    public CompletableFuture<Map<String, Object>> deleteComponentAsync(String componentId) {
         String url = baseUrl + "/components/" + componentId;
         Request request = baseRequest(url).delete().build();
-        try (Response response = client.newCall(request).execute()) {
+        return executeAsync(request, response -> {
             int code = response.code();
             String body = response.body() != null ? response.body().string() : "";
             if (code == 204) {
@@ -165,7 +334,7 @@ public class NexusClient extends BaseRepositoryClient {
             } else {
                 throw new IOException("Unexpected HTTP code " + code + ": " + body);
             }
-        }
+        }, EndpointClass.MUTATE);
     }
 
     /**
@@ -186,6 +355,23 @@ public class NexusClient extends BaseRepositoryClient {
      */
     public Map<String, Object> uploadComponent(String repository, java.nio.file.Path componentFile,
             String group, String artifactId, String version, String packaging) throws IOException {
+        return await(uploadComponentAsync(repository, componentFile, group, artifactId, version, packaging));
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link #uploadComponent(String, java.nio.file.Path, String, String, String, String)}.
+     *
+     * @param repository    The target repository name
+     * @param componentFile The path to the file to upload
+     * @param group         The group/namespace (e.g., "org.eclipse.example")
+     * @param artifactId    The artifact ID
+     * @param version       The version
+     * @param packaging     The packaging type (e.g., "jar", "pom")
+     * @return A future of the upload result
+     */
+    public CompletableFuture<Map<String, Object>> uploadComponentAsync(String repository,
+            java.nio.file.Path componentFile, String group, String artifactId, String version, String packaging) {
         String url = baseUrl + "/components?repository=" + repository;
 
         // Create multipart form data for file upload
@@ -208,7 +394,7 @@ public class NexusClient extends BaseRepositoryClient {
                 .post(formBody)
                 .build();
 
-        try (Response response = client.newCall(request).execute()) {
+        return executeAsync(request, response -> {
             int code = response.code();
             String body = response.body() != null ? response.body().string() : "";
 
@@ -225,6 +411,68 @@ public class NexusClient extends BaseRepositoryClient {
             } else {
                 throw new IOException("Unexpected HTTP code " + code + ": " + body);
             }
-        }
+        }, EndpointClass.UPLOAD, false);
+    }
+
+    /**
+     * Downloads an asset to a file, streaming the response over the shared
+     * connection pool.
+     * 
+     * The content is written to a temporary file next to the target, which is
+     * renamed to the target once complete, so the target is never left
+     * partially written. The given digests are updated with the content as it
+     * is written, so that checksums do not require reading the file again.
+     * 
+     * @param downloadUrl The download URL of the asset, as listed by a search
+     * @param target      The file to write; its directory must exist
+     * @param digests     Digests to update with the content, if any
+     * @return The number of bytes written
+     * @throws IOException if the request fails, e.g. the asset does not exist,
+     *                     or the file cannot be written
+     */
+    public long downloadAsset(String downloadUrl, Path target, MessageDigest... digests) throws IOException {
+        return await(downloadAssetAsync(downloadUrl, target, digests));
+    }
+
+    /**
+     * Asynchronous variant of
+     * {@link #downloadAsset(String, Path, MessageDigest...)}.
+     *
+     * @param downloadUrl The download URL of the asset
+     * @param target      The file to write
+     * @param digests     Digests to update with the content, if any
+     * @return A future of the number of bytes written
+     */
+    public CompletableFuture<Long> downloadAssetAsync(String downloadUrl, Path target, MessageDigest... digests) {
+        Request request = baseRequest(downloadUrl).header(HEADER_ACCEPT, "*/*").get().build();
+        return executeAsync(request, response -> {
+            int code = response.code();
+            if (!response.isSuccessful() || response.body() == null) {
+                throw new IOException(errorDescription(code, CTX_DOWNLOAD_ASSET) + " (" + code + "): " + downloadUrl);
+            }
+            Path temp = Files.createTempFile(target.getParent(), "." + target.getFileName(), PARTIAL_FILE_SUFFIX);
+            try {
+                for (MessageDigest digest : digests) {
+                    digest.reset();
+                }
+                long size = 0;
+                try (BufferedSource source = response.body().source();
+                        BufferedSink sink = Okio.buffer(Okio.sink(temp))) {
+                    byte[] buffer = new byte[DOWNLOAD_BUFFER_SIZE];
+                    int read;
+                    while ((read = source.read(buffer)) != -1) {
+                        for (MessageDigest digest : digests) {
+                            digest.update(buffer, 0, read);
+                        }
+                        sink.write(buffer, 0, read);
+                        size += read;
+                    }
+                }
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return size;
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        });
     }
 }
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * A Nexus component (one GAV in a Maven repository) and its assets.
+ *
+ * @param id         The component ID
+ * @param repository The repository holding the component
+ * @param format     The repository format, e.g. maven2
+ * @param group      The group
+ * @param name       The name (artifactId for Maven)
+ * @param version    The version
+ * @param assets     The files of the component
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NexusComponent(String id, String repository, String format, String group, String name,
+        String version, List<NexusAsset> assets) {
+
+    public NexusComponent {
+        assets = assets != null ? List.copyOf(assets) : List.of();
+    }
+}
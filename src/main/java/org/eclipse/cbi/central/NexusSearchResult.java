@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.util.List;
+
+/**
+ * One page of Nexus search results.
+ *
+ * @param items             The components on this page
+ * @param continuationToken The token to fetch the next page, or null on the
+ *                          last page
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NexusSearchResult(List<NexusComponent> items, String continuationToken) {
+
+    public NexusSearchResult {
+        items = items != null ? List.copyOf(items) : List.of();
+    }
+}
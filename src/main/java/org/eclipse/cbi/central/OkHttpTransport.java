@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+/**
+ * Transport sending requests with a pooled OkHttp client.
+ */
+final class OkHttpTransport implements HttpTransport {
+
+    private final OkHttpClient client;
+
+    OkHttpTransport(OkHttpClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public Call newCall(Request request) {
+        return client.newCall(request);
+    }
+
+    @Override
+    public Type getType() {
+        return Type.OKHTTP;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy spliterator over a paginated API listing.
+ *
+ * Pages are fetched only when the caller reaches them. Once the caller moves
+ * past the first element of a page, the request for the following page is
+ * sent, so the next page is usually available by the time the caller has
+ * processed the current one. A caller that stops at the first element (e.g.
+ * {@code findFirst()}) never triggers a prefetch; closing the stream cancels
+ * a pending one. Without prefetch, the next page is only requested once the
+ * current one has been consumed.
+ *
+ * @param <P> The page type returned by the API
+ * @param <T> The element type
+ */
+final class PagedSpliterator<P, T> implements Spliterator<T> {
+
+    private final Function<P, List<T>> items;
+    private final BiFunction<Integer, P, CompletableFuture<P>> next;
+    private final boolean prefetch;
+
+    private CompletableFuture<P> pending;
+    private P lastPage;
+    private boolean prefetched = true;
+    private Iterator<T> current;
+    private int pageIndex;
+
+    /**
+     * Creates a paged spliterator.
+     *
+     * @param first Future of the first page
+     * @param items Extracts the elements of a page
+     * @param next  Given the index and content of the last fetched page,
+     *              requests the following page, or returns null when there
+     *              are no more pages
+     */
+    PagedSpliterator(CompletableFuture<P> first, Function<P, List<T>> items,
+            BiFunction<Integer, P, CompletableFuture<P>> next) {
+        this(first, items, next, true);
+    }
+
+    /**
+     * Creates a paged spliterator.
+     *
+     * @param first    Future of the first page
+     * @param items    Extracts the elements of a page
+     * @param next     Given the index and content of the last fetched page,
+     *                 requests the following page, or returns null when there
+     *                 are no more pages
+     * @param prefetch Whether to request the next page while the current one
+     *                 is consumed
+     */
+    PagedSpliterator(CompletableFuture<P> first, Function<P, List<T>> items,
+            BiFunction<Integer, P, CompletableFuture<P>> next, boolean prefetch) {
+        this.pending = first;
+        this.items = items;
+        this.next = next;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Returns a sequential stream over the elements of all pages. The stream
+     * should be closed when it is not consumed entirely.
+     */
+    Stream<T> stream() {
+        return StreamSupport.stream(this, false).onClose(this::cancel);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        boolean firstOfPage = false;
+        while (current == null || !current.hasNext()) {
+            if (!prefetched) {
+                requestNextPage();
+            }
+            if (pending == null) {
+                return false;
+            }
+            lastPage = awaitPage(pending);
+            pending = null;
+            prefetched = false;
+            current = items.apply(lastPage).iterator();
+            firstOfPage = true;
+        }
+        if (prefetch && !firstOfPage && !prefetched) {
+            requestNextPage();
+        }
+        action.accept(current.next());
+        return true;
+    }
+
+    private void requestNextPage() {
+        pending = next.apply(pageIndex++, lastPage);
+        prefetched = true;
+    }
+
+    /**
+     * Cancels the prefetched page, if any, and ends the iteration.
+     */
+    void cancel() {
+        if (pending != null) {
+            pending.cancel(true);
+            pending = null;
+        }
+        prefetched = true;
+        current = null;
+    }
+
+    private P awaitPage(CompletableFuture<P> page) {
+        try {
+            return BaseRepositoryClient.await(page);
+        } catch (IOException e) {
+            pending = null;
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        // Pages are requested in order, splitting would not help
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
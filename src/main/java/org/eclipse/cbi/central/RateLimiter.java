@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket shared by all clients calling the same endpoint class
+ * of a host.
+ *
+ * The bucket is kept as a single timestamp: the time at which it will be full
+ * again if no further permit is taken. Taking a permit moves that time one
+ * interval forward with a compare-and-set. A caller arriving while the bucket
+ * is empty is not rejected but told how long to wait, so concurrent callers
+ * queue up in arrival order and the configured rate is used entirely without
+ * being exceeded. Waiting is up to the caller, typically by scheduling the
+ * request on a timer rather than blocking a thread.
+ */
+final class RateLimiter {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final String name;
+    // Starts in the past so that the bucket is initially full
+    private final AtomicLong fullAt = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+
+    // Interval between permits and burst capacity, both in nanoseconds
+    private volatile long intervalNanos;
+    private volatile long capacityNanos;
+
+    private final AtomicLong permits = new AtomicLong();
+    private final AtomicLong delayed = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    /**
+     * Creates an unlimited rate limiter.
+     *
+     * @param name Name used in statistics
+     */
+    RateLimiter(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Sets the rate. The bucket holds one second worth of permits, at least one.
+     *
+     * @param permitsPerSecond Permits per second, 0 or less for no limit
+     */
+    void setRate(double permitsPerSecond) {
+        if (permitsPerSecond <= 0) {
+            intervalNanos = 0;
+            capacityNanos = 0;
+            return;
+        }
+        long interval = Math.max(1, Math.round(NANOS_PER_SECOND / permitsPerSecond));
+        intervalNanos = interval;
+        capacityNanos = interval * Math.max(1, (long) Math.ceil(permitsPerSecond));
+    }
+
+    /**
+     * Returns true if a rate is configured.
+     */
+    boolean isLimited() {
+        return intervalNanos > 0;
+    }
+
+    /**
+     * Takes a permit.
+     *
+     * @return How long the caller must wait before using the permit, in
+     *         nanoseconds
+     */
+    long acquire() {
+        permits.incrementAndGet();
+        long interval = intervalNanos;
+        if (interval == 0) {
+            return 0;
+        }
+        long capacity = capacityNanos;
+        long now;
+        long current;
+        long wait;
+        long next;
+        do {
+            now = System.nanoTime();
+            current = fullAt.get();
+            // A bucket that was full in the past is just full now; nanoTime
+            // values are compared through their difference to stay overflow-safe
+            long start = current - now > 0 ? current : now;
+            next = start + interval;
+            wait = Math.max(0, next - capacity - now);
+        } while (!fullAt.compareAndSet(current, next));
+        if (wait > 0) {
+            delayed.incrementAndGet();
+            waitNanos.addAndGet(wait);
+        }
+        return wait;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    long getPermits() {
+        return permits.get();
+    }
+
+    long getDelayed() {
+        return delayed.get();
+    }
+
+    long getWaitNanos() {
+        return waitNanos.get();
+    }
+}
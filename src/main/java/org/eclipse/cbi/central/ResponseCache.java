@@ -0,0 +1,481 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import okhttp3.*;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Source;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persistent cache for listing and search responses.
+ *
+ * Only requests tagged with the cache go through it, which
+ * covers POST listings as well as GET searches, unlike a standard HTTP cache.
+ * Each successful response is stored as a body file and a properties file
+ * holding its validators, under a key derived from the method, URL,
+ * credentials and request body. Bodies are never held in memory: a response
+ * is copied to a temporary file while the caller reads it, and the entry is
+ * only stored once the body was read entirely. Cached bodies are read from
+ * their file.
+ *
+ * A response carrying an {@code ETag} or {@code Last-Modified} header is
+ * revalidated on every use with a conditional request, so a 304 answer saves
+ * the transfer and parsing but never returns outdated data. Responses without
+ * validators are served from disk until their TTL expires. The cache is bounded
+ * in size; the least recently used entries are evicted first.
+ *
+ * A client whose operation changed server state (upload, publish, drop)
+ * invalidates the entries of its host only. The invalidation is recorded as a
+ * time per host in a small file of the cache directory, so that it costs one
+ * write however many entries are affected, holds for later builds and is
+ * seen by concurrent ones; older entries of that host are then treated as
+ * misses and replaced.
+ */
+final class ResponseCache implements Interceptor {
+
+    private static final String BODY_SUFFIX = ".body";
+    private static final String META_SUFFIX = ".properties";
+    private static final long DRAIN_LIMIT = 64 * 1024;
+    private static final String INVALIDATIONS = "invalidations.properties";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong revalidated = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    // Invalidation time by host, as last read from the invalidations file
+    private Properties invalidations = new Properties();
+    private long invalidationsModified = -1;
+
+    /**
+     * Creates a response cache.
+     *
+     * @param directory The cache directory, created if missing
+     * @param maxBytes  Maximum total size of the cached bodies
+     * @param ttlMillis How long responses without validators stay fresh
+     * @throws IOException if the directory cannot be created
+     */
+    ResponseCache(Path directory, long maxBytes, long ttlMillis) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+    }
+
+    Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        if (request.tag(ResponseCache.class) != this) {
+            return chain.proceed(request);
+        }
+        String key = key(request);
+        String host = HttpClientRegistry.hostKey(request.url().toString());
+        Path body = directory.resolve(key + BODY_SUFFIX);
+        Path meta = directory.resolve(key + META_SUFFIX);
+        Properties entry = readEntry(meta);
+        if (entry != null && storedAt(entry) <= invalidatedAt(host)) {
+            // Stored before an operation changed the server state
+            entry = null;
+        }
+
+        String etag = entry != null ? entry.getProperty("etag") : null;
+        String lastModified = entry != null ? entry.getProperty("lastModified") : null;
+        boolean validators = etag != null || lastModified != null;
+
+        if (entry != null && !validators && System.currentTimeMillis() - storedAt(entry) < ttlMillis) {
+            Response cached = cachedResponse(request, entry, body);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+
+        Request.Builder network = request.newBuilder();
+        if (etag != null) {
+            network.header("If-None-Match", etag);
+        }
+        if (lastModified != null) {
+            network.header("If-Modified-Since", lastModified);
+        }
+        Response response = chain.proceed(network.build());
+
+        if (response.code() == 304 && entry != null) {
+            Response cached = cachedResponse(request, entry, body);
+            if (cached != null) {
+                response.close();
+                revalidated.incrementAndGet();
+                return cached;
+            }
+            // The body vanished, fetch it again without conditions
+            response.close();
+            return chain.proceed(request);
+        }
+        if (response.code() != 200 || response.body() == null) {
+            return response;
+        }
+        misses.incrementAndGet();
+        ResponseBody networkBody = response.body();
+        Properties stored = newEntry(response, networkBody.contentType());
+        Source source;
+        try {
+            source = new CachingSource(networkBody.source(), key, body, meta, stored);
+        } catch (IOException e) {
+            // The cache is best effort, the response is returned uncached
+            return response;
+        }
+        return response.newBuilder()
+                .body(ResponseBody.create(Okio.buffer(source), networkBody.contentType(),
+                        networkBody.contentLength()))
+                .build();
+    }
+
+    private static String key(Request request) throws IOException {
+        StringBuilder material = new StringBuilder()
+                .append(request.method()).append('\n')
+                .append(request.url()).append('\n')
+                .append(request.header("Authorization")).append('\n');
+        if (request.body() != null) {
+            Buffer buffer = new Buffer();
+            request.body().writeTo(buffer);
+            material.append(buffer.readUtf8());
+        }
+        return DigestUtils.sha256Hex(material.toString());
+    }
+
+    private static long storedAt(Properties entry) {
+        try {
+            return Long.parseLong(entry.getProperty("storedAt", "0"));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private Properties readEntry(Path meta) {
+        Properties entry = new Properties();
+        try (InputStream in = Files.newInputStream(meta)) {
+            entry.load(in);
+            return entry;
+        } catch (IOException e) {
+            // Missing or unreadable entry, treated as a miss
+            return null;
+        }
+    }
+
+    private Response cachedResponse(Request request, Properties entry, Path body) {
+        Source content;
+        long size;
+        try {
+            // Opened before eviction can delete the file, which stays readable
+            content = Okio.source(body);
+            size = Files.size(body);
+            // The modification time records the last use for LRU eviction
+            Files.setLastModifiedTime(body, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            return null;
+        }
+        String contentType = entry.getProperty("contentType");
+        return new Response.Builder()
+                .request(request)
+                .protocol(Protocol.HTTP_1_1)
+                .code(200)
+                .message("OK")
+                .body(ResponseBody.create(Okio.buffer(content),
+                        contentType != null ? MediaType.parse(contentType) : null, size))
+                .build();
+    }
+
+    private static Properties newEntry(Response response, MediaType contentType) {
+        Properties entry = new Properties();
+        entry.setProperty("storedAt", Long.toString(System.currentTimeMillis()));
+        if (contentType != null) {
+            entry.setProperty("contentType", contentType.toString());
+        }
+        if (response.header("ETag") != null) {
+            entry.setProperty("etag", response.header("ETag"));
+        }
+        if (response.header("Last-Modified") != null) {
+            entry.setProperty("lastModified", response.header("Last-Modified"));
+        }
+        return entry;
+    }
+
+    /**
+     * Copies a network body to a temporary file as it is read, and stores the
+     * entry when the body is exhausted. A body closed early, or a failure to
+     * write the copy, leaves the cache unchanged.
+     */
+    private final class CachingSource extends ForwardingSource {
+
+        private final String key;
+        private final Path body;
+        private final Path meta;
+        private final Properties entry;
+        private final Path bodyTmp;
+        private BufferedSink copy;
+
+        CachingSource(Source delegate, String key, Path body, Path meta, Properties entry) throws IOException {
+            super(delegate);
+            this.key = key;
+            this.body = body;
+            this.meta = meta;
+            this.entry = entry;
+            // Written to temporary files first so that readers never see a partial entry
+            this.bodyTmp = Files.createTempFile(directory, key, ".tmp");
+            this.copy = Okio.buffer(Okio.sink(bodyTmp));
+        }
+
+        @Override
+        public long read(Buffer sink, long byteCount) throws IOException {
+            long read;
+            try {
+                read = super.read(sink, byteCount);
+            } catch (IOException e) {
+                discard();
+                throw e;
+            }
+            if (read == -1) {
+                commit();
+                return -1;
+            }
+            if (copy != null) {
+                try {
+                    sink.copyTo(copy.getBuffer(), sink.size() - read, read);
+                    copy.emitCompleteSegments();
+                } catch (IOException e) {
+                    discard();
+                }
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            // Parsers stop at the end of the document without reading the end
+            // of the stream, so a short remainder is read to complete the copy
+            Buffer rest = new Buffer();
+            long drained = 0;
+            try {
+                while (copy != null && drained < DRAIN_LIMIT) {
+                    long read = read(rest, DRAIN_LIMIT - drained);
+                    if (read == -1) {
+                        break;
+                    }
+                    drained += read;
+                    rest.clear();
+                }
+            } catch (IOException e) {
+                // Not cached
+            } finally {
+                discard();
+                super.close();
+            }
+        }
+
+        private void commit() {
+            if (copy == null) {
+                return;
+            }
+            try {
+                copy.close();
+                copy = null;
+                Files.move(bodyTmp, body, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Path metaTmp = Files.createTempFile(directory, key, ".tmp");
+                try (OutputStream out = Files.newOutputStream(metaTmp)) {
+                    entry.store(out, null);
+                }
+                Files.move(metaTmp, meta, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                evict();
+            } catch (IOException e) {
+                // The cache is best effort, the response was still returned
+                discard();
+            }
+        }
+
+        private void discard() {
+            if (copy != null) {
+                try {
+                    copy.close();
+                } catch (IOException e) {
+                    // Deleted below
+                }
+                copy = null;
+            }
+            try {
+                Files.deleteIfExists(bodyTmp);
+            } catch (IOException e) {
+                // Removed with the other entries by clear()
+            }
+        }
+    }
+
+    /**
+     * Invalidates the entries of a host after an operation that changed its
+     * state. Responses stored from now on are valid again.
+     *
+     * @param host The host and port, as returned by
+     *             {@link HttpClientRegistry#hostKey(String)}
+     */
+    synchronized void invalidate(String host) {
+        Path file = directory.resolve(INVALIDATIONS);
+        try {
+            Properties current = loadInvalidations(file);
+            current.setProperty(host, Long.toString(System.currentTimeMillis()));
+            Path temp = Files.createTempFile(directory, INVALIDATIONS, ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    current.store(out, null);
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            invalidations = current;
+            invalidationsModified = Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            // Entries of the host cannot be trusted any more
+            clear();
+        }
+    }
+
+    /**
+     * Returns when the entries of a host were last invalidated, by this or
+     * another build sharing the directory.
+     */
+    private synchronized long invalidatedAt(String host) {
+        Path file = directory.resolve(INVALIDATIONS);
+        try {
+            long modified = Files.getLastModifiedTime(file).toMillis();
+            if (modified != invalidationsModified) {
+                invalidations = loadInvalidations(file);
+                invalidationsModified = modified;
+            }
+        } catch (IOException e) {
+            // No invalidation yet
+            return 0;
+        }
+        try {
+            return Long.parseLong(invalidations.getProperty(host, "0"));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static Properties loadInvalidations(Path file) throws IOException {
+        Properties loaded = new Properties();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                loaded.load(in);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Deletes all entries.
+     */
+    synchronized void clear() {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            // Best effort, stale entries still expire
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries until the cached bodies fit in
+     * the size limit.
+     */
+    private synchronized void evict() throws IOException {
+        List<Path> bodies = new ArrayList<>();
+        long total = 0;
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + BODY_SUFFIX)) {
+            for (Path path : stream) {
+                bodies.add(path);
+                total += sizeOf(path);
+            }
+        }
+        if (total <= maxBytes) {
+            return;
+        }
+        bodies.sort(Comparator.comparingLong(ResponseCache::lastUsed));
+        for (Path path : bodies) {
+            if (total <= maxBytes) {
+                break;
+            }
+            long size = sizeOf(path);
+            String name = path.getFileName().toString();
+            Files.deleteIfExists(directory.resolve(name.substring(0, name.length() - BODY_SUFFIX.length())
+                    + META_SUFFIX));
+            Files.deleteIfExists(path);
+            total -= size;
+            evicted.incrementAndGet();
+        }
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long lastUsed(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getRevalidated() {
+        return revalidated.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    long getEvicted() {
+        return evicted.get();
+    }
+}
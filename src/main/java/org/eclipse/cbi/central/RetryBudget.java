@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Build-wide retry budget shared by all repository clients.
+ *
+ * Every request deposits a fraction of a retry token and every retry withdraws
+ * a whole token, so retries stay bounded to a ratio of the overall traffic
+ * plus a small reserve. During a real outage the budget drains quickly and
+ * further failures are reported immediately instead of multiplying the load
+ * on the failing service.
+ */
+final class RetryBudget {
+
+    // Token amounts are kept in thousandths to allow fractional deposits
+    private static final long UNIT = 1000;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong denied = new AtomicLong();
+    private final AtomicLong backoffMillis = new AtomicLong();
+
+    /**
+     * Creates a retry budget.
+     *
+     * @param reserve    Retries available before any request has been sent
+     * @param retryRatio Retries allowed per request sent (e.g. 0.2)
+     * @param maxRetries Maximum number of retries that can be saved up
+     */
+    RetryBudget(int reserve, double retryRatio, int maxRetries) {
+        this.depositPerRequest = Math.round(retryRatio * UNIT);
+        this.maxBalance = maxRetries * UNIT;
+        this.balance = new AtomicLong(Math.min(reserve, maxRetries) * UNIT);
+    }
+
+    /**
+     * Records a new request, adding to the budget.
+     */
+    void onRequest() {
+        balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxBalance, current + deposit));
+    }
+
+    /**
+     * Tries to withdraw one retry from the budget.
+     *
+     * @param delayMillis The backoff that will precede the retry
+     * @return true if the retry may proceed
+     */
+    boolean tryRetry(long delayMillis) {
+        long current;
+        do {
+            current = balance.get();
+            if (current < UNIT) {
+                denied.incrementAndGet();
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - UNIT));
+        retries.incrementAndGet();
+        backoffMillis.addAndGet(delayMillis);
+        return true;
+    }
+
+    long getRetries() {
+        return retries.get();
+    }
+
+    long getDenied() {
+        return denied.get();
+    }
+
+    long getBackoffMillis() {
+        return backoffMillis.get();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retry policy for repository API calls.
+ *
+ * Transient failures (429, 500, 502, 503, 504 and I/O errors) are retried up to
+ * {@code maxRetries} times with decorrelated jitter backoff: each delay is
+ * drawn uniformly between the initial delay and three times the previous
+ * delay, capped at the maximum delay. A {@code Retry-After} header raises the
+ * delay to the server's value; if the server asks for more than the maximum
+ * delay, the call fails instead of blocking the build.
+ *
+ * Non-idempotent operations (e.g. bundle uploads) are only retried when the
+ * server cannot have processed the request: on 429 and on failures to
+ * establish a connection.
+ */
+public final class RetryPolicy {
+
+    /**
+     * Policy used when none is configured: 3 retries, 500 ms initial delay, 30 s
+     * maximum delay.
+     */
+    public static final RetryPolicy DEFAULT = new RetryPolicy(3, 500, 30_000);
+
+    /**
+     * Policy that never retries.
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(0, 0, 0);
+
+    private static final Set<Integer> RETRYABLE_CODES = Set.of(429, 500, 502, 503, 504);
+
+    private final int maxRetries;
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+
+    /**
+     * Creates a retry policy.
+     *
+     * @param maxRetries         Maximum number of retries per call (0 disables
+     *                           retries)
+     * @param initialDelayMillis Initial backoff delay in milliseconds
+     * @param maxDelayMillis     Maximum backoff delay in milliseconds
+     */
+    public RetryPolicy(int maxRetries, long initialDelayMillis, long maxDelayMillis) {
+        if (maxRetries < 0 || initialDelayMillis < 0 || maxDelayMillis < initialDelayMillis) {
+            throw new IllegalArgumentException("Invalid retry policy: maxRetries=" + maxRetries + ", initialDelay="
+                    + initialDelayMillis + "ms, maxDelay=" + maxDelayMillis + "ms");
+        }
+        this.maxRetries = maxRetries;
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public long getInitialDelayMillis() {
+        return initialDelayMillis;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    /**
+     * Returns true if a response with the given status code may be retried.
+     *
+     * @param code       HTTP status code
+     * @param idempotent Whether the operation is safe to repeat
+     */
+    boolean isRetryable(int code, boolean idempotent) {
+        return idempotent ? RETRYABLE_CODES.contains(code) : code == 429;
+    }
+
+    /**
+     * Returns true if a transport failure may be retried.
+     *
+     * @param e          The failure raised by the HTTP client
+     * @param idempotent Whether the operation is safe to repeat
+     */
+    boolean isRetryable(IOException e, boolean idempotent) {
+        if (idempotent) {
+            return true;
+        }
+        // The request never reached the server
+        return e instanceof ConnectException || e instanceof UnknownHostException
+                || e instanceof NoRouteToHostException;
+    }
+
+    /**
+     * Computes the next backoff delay using decorrelated jitter.
+     *
+     * @param previousDelayMillis The previous delay, or 0 for the first retry
+     * @return The delay in milliseconds
+     */
+    long nextDelay(long previousDelayMillis) {
+        long upper = Math.min(maxDelayMillis, Math.max(initialDelayMillis, previousDelayMillis * 3));
+        if (upper <= initialDelayMillis) {
+            return initialDelayMillis;
+        }
+        return ThreadLocalRandom.current().nextLong(initialDelayMillis, upper + 1);
+    }
+
+    /**
+     * Parses a {@code Retry-After} header given either in seconds or as an
+     * HTTP date.
+     *
+     * @param value The header value, may be null
+     * @return The requested delay in milliseconds, or -1 if absent or invalid
+     */
+    static long parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        String trimmed = value.trim();
+        try {
+            return Math.max(0, Long.parseLong(trimmed) * 1000);
+        } catch (NumberFormatException e) {
+            // Not delta-seconds, try an HTTP date
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy[maxRetries=" + maxRetries + ", initialDelay=" + initialDelayMillis + "ms, maxDelay="
+                + maxDelayMillis + "ms]";
+    }
+}
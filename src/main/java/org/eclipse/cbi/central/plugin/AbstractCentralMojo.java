@@ -12,6 +12,7 @@
 
 package org.eclipse.cbi.central.plugin;
 
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.project.MavenProject;
@@ -23,7 +24,15 @@ import org.apache.maven.settings.crypto.DefaultSettingsDecryptionRequest;
 import org.apache.maven.settings.crypto.SettingsDecryptionResult;
 import org.apache.maven.plugin.AbstractMojo;
 import org.eclipse.cbi.central.CentralPortalClient;
+import org.eclipse.cbi.central.ClientSettings;
+import org.eclipse.cbi.central.EndpointClass;
+import org.eclipse.cbi.central.HedgingPolicy;
+import org.eclipse.cbi.central.HttpClientRegistry;
+import org.eclipse.cbi.central.HttpTransport;
+import org.eclipse.cbi.central.RetryPolicy;
+import java.io.File;
 import java.util.Base64;
+import java.util.concurrent.Future;
 
 /**
  * Abstract base class for Central Portal Maven Mojos.
@@ -88,6 +97,12 @@ public abstract class AbstractCentralMojo extends AbstractMojo {
     @Parameter(defaultValue = "${project}", readonly = true, required = true)
     protected MavenProject project;
 
+    /**
+     * Maven session (injected by Maven).
+     */
+    @Parameter(defaultValue = "${session}", readonly = true)
+    protected MavenSession session;
+
     /**
      * HTTP connection timeout in seconds.
      */
@@ -106,6 +121,166 @@ public abstract class AbstractCentralMojo extends AbstractMojo {
     @Parameter(property = "central.writeTimeout", defaultValue = "300")
     protected int writeTimeout;
 
+    /**
+     * If true, log HTTP client and connection pool statistics at the end of the
+     * goal. Goals invoked internally by another goal (e.g. rc-sync) leave this
+     * unset so the summary is printed once.
+     */
+    @Parameter(property = "central.httpStatistics", defaultValue = "true")
+    protected boolean httpStatistics;
+
+    /**
+     * If true, write the HTTP metrics of the build (per endpoint call counts,
+     * bytes, latency percentiles and status codes) as JSON at the end of the
+     * goal.
+     */
+    @Parameter(property = "central.httpMetrics", defaultValue = "false")
+    protected boolean httpMetrics;
+
+    /**
+     * File receiving the HTTP metrics when central.httpMetrics is enabled.
+     */
+    @Parameter(property = "central.httpMetricsFile", defaultValue = "${project.build.directory}/central-staging-http-metrics.json")
+    protected File httpMetricsFile;
+
+    /**
+     * Maximum number of retries for transient API failures (429, 5xx, network
+     * errors). Bundle uploads are only retried when the server did not receive
+     * them. 0 disables retries.
+     */
+    @Parameter(property = "central.maxRetries", defaultValue = "3")
+    protected int maxRetries;
+
+    /**
+     * Initial backoff delay before retrying an API call, in milliseconds.
+     */
+    @Parameter(property = "central.retryInitialDelay", defaultValue = "500")
+    protected long retryInitialDelay;
+
+    /**
+     * Maximum backoff delay between retries, in milliseconds. A Retry-After
+     * header asking for a longer delay fails the call instead.
+     */
+    @Parameter(property = "central.retryMaxDelay", defaultValue = "30000")
+    protected long retryMaxDelay;
+
+    /**
+     * HTTP transport sending the API requests: OKHTTP, or JDK for the
+     * java.net.http client with HTTP/2 multiplexing. The response cache is
+     * only used with OKHTTP.
+     */
+    @Parameter(property = "central.httpTransport", defaultValue = "OKHTTP")
+    protected HttpTransport.Type httpTransport;
+
+    /**
+     * If true, connections to the Central Portal (and to Nexus when
+     * central.nexusArtifactsResolution is enabled) are opened in the
+     * background as soon as the goal starts and kept warm until it ends, so
+     * that TLS handshakes overlap with downloading and bundling.
+     */
+    @Parameter(property = "central.preconnect", defaultValue = "false")
+    protected boolean preconnect;
+
+    /**
+     * Maximum rate of deployment status and publication checks, in requests per
+     * second. The limits are shared by all goals and threads of the build; 0
+     * disables the limit.
+     */
+    @Parameter(property = "central.statusRateLimit", defaultValue = "10")
+    protected double statusRateLimit;
+
+    /**
+     * Maximum rate of deployment listing requests, in requests per second. 0
+     * disables the limit.
+     */
+    @Parameter(property = "central.listingRateLimit", defaultValue = "5")
+    protected double listingRateLimit;
+
+    /**
+     * Maximum rate of bundle uploads, in requests per second. 0 disables the
+     * limit.
+     */
+    @Parameter(property = "central.uploadRateLimit", defaultValue = "1")
+    protected double uploadRateLimit;
+
+    /**
+     * Maximum rate of publish and drop requests, in requests per second. 0
+     * disables the limit.
+     */
+    @Parameter(property = "central.mutateRateLimit", defaultValue = "5")
+    protected double mutateRateLimit;
+
+    /**
+     * If true, deployment status and publication checks that are slower than
+     * most recent checks are sent a second time, and the first answer is used.
+     */
+    @Parameter(property = "central.hedging", defaultValue = "false")
+    protected boolean hedging;
+
+    /**
+     * Percentile of the status check latencies observed during the build after
+     * which a check is hedged.
+     */
+    @Parameter(property = "central.hedgePercentile", defaultValue = "95")
+    protected double hedgePercentile;
+
+    /**
+     * Maximum number of hedges sent for a single status check.
+     */
+    @Parameter(property = "central.maxHedges", defaultValue = "1")
+    protected int maxHedges;
+
+    /**
+     * Minimum delay before a status check is hedged, in milliseconds.
+     */
+    @Parameter(property = "central.hedgeMinDelay", defaultValue = "100")
+    protected long hedgeMinDelay;
+
+    /**
+     * If true, keep the Nexus component searches of rc-download in a persistent
+     * cache, so that later goals and builds can reuse them. Responses with an
+     * ETag or Last-Modified header are revalidated on each use. Deployment
+     * listings and publication checks are never cached, since the goals act on
+     * the state they report.
+     */
+    @Parameter(property = "central.responseCache", defaultValue = "false")
+    protected boolean responseCache;
+
+    /**
+     * Directory of the persistent response cache.
+     */
+    @Parameter(property = "central.responseCacheDirectory", defaultValue = "${user.home}/.m2/central-staging-cache")
+    protected File responseCacheDirectory;
+
+    /**
+     * How long cached responses without ETag or Last-Modified header are
+     * reused, in seconds.
+     */
+    @Parameter(property = "central.responseCacheTtl", defaultValue = "60")
+    protected long responseCacheTtl;
+
+    /**
+     * Maximum size of the persistent response cache, in megabytes. The least
+     * recently used responses are evicted first.
+     */
+    @Parameter(property = "central.responseCacheMaxSize", defaultValue = "50")
+    protected long responseCacheMaxSize;
+
+    /**
+     * Failure percentage over the last 20 calls to a host (at least 5) that
+     * opens its circuit breaker. While open, calls to the host fail
+     * immediately instead of waiting for timeouts. 0 disables the breaker.
+     */
+    @Parameter(property = "central.circuitBreakerFailureRate", defaultValue = "50")
+    protected int circuitBreakerFailureRate;
+
+    /**
+     * How long an open circuit breaker refuses calls before letting a probe
+     * call through, in seconds.
+     */
+    @Parameter(property = "central.circuitBreakerOpenTime", defaultValue = "30")
+    protected long circuitBreakerOpenTime;
+
     /**
      * The CentralPortalClient instance used for API interactions.
      */
@@ -201,11 +376,99 @@ public abstract class AbstractCentralMojo extends AbstractMojo {
 
     /**
      * Initializes the CentralPortalClient using the bearer token and optional API
-     * URL.
+     * URL. The client is shared with every other goal of the build using the
+     * same token, URL, timeouts and client settings.
      */
     protected void initClient() {
-        client = centralApiUrl != null && !centralApiUrl.isEmpty()
-                ? new CentralPortalClient(getBearerToken(), centralApiUrl, connectTimeout, readTimeout, writeTimeout)
-                : new CentralPortalClient(getBearerToken(), null, connectTimeout, readTimeout, writeTimeout);
+        HttpClientRegistry.getInstance().beginSession(session);
+        client = HttpClientRegistry.getInstance().centralPortalClient(getBearerToken(),
+                centralApiUrl != null && !centralApiUrl.isEmpty() ? centralApiUrl : null,
+                connectTimeout, readTimeout, writeTimeout,
+                clientSettings(new RetryPolicy(maxRetries, retryInitialDelay, retryMaxDelay),
+                        hedging ? new HedgingPolicy(hedgePercentile, maxHedges, hedgeMinDelay) : null));
+        client.setRateLimit(EndpointClass.STATUS, statusRateLimit);
+        client.setRateLimit(EndpointClass.LISTING, listingRateLimit);
+        client.setRateLimit(EndpointClass.UPLOAD, uploadRateLimit);
+        client.setRateLimit(EndpointClass.MUTATE, mutateRateLimit);
+        initCircuitBreakers(client.getBaseUrl());
+    }
+
+    /**
+     * Applies the circuit breaker settings of this goal to a host it calls.
+     * The breakers of other hosts keep the settings of the goals calling them.
+     *
+     * @param url Any URL of the host
+     */
+    protected void initCircuitBreakers(String url) {
+        HttpClientSupport.initCircuitBreaker(url, circuitBreakerFailureRate, circuitBreakerOpenTime);
+    }
+
+    /**
+     * Returns the client settings of this goal, with the persistent response
+     * cache if requested. Failing to create the cache only disables it.
+     *
+     * @param retryPolicy   The retry policy of the client
+     * @param hedgingPolicy The hedging policy of the client, or null
+     * @return The client settings
+     */
+    protected ClientSettings clientSettings(RetryPolicy retryPolicy, HedgingPolicy hedgingPolicy) {
+        return HttpClientSupport.clientSettings(httpTransport, retryPolicy, hedgingPolicy, responseCache,
+                responseCacheDirectory, responseCacheMaxSize, responseCacheTtl, getLog());
+    }
+
+    /**
+     * Opens a connection to an API host in the background if central.preconnect
+     * is enabled.
+     *
+     * @param url The API URL, or null for the Central Portal default
+     * @return A future to cancel when the goal ends, or null if disabled
+     */
+    protected Future<?> preconnect(String url) {
+        if (!this.preconnect) {
+            return null;
+        }
+        String target = url != null && !url.isBlank() ? url : CentralPortalClient.DEFAULT_BASE_URL;
+        getLog().debug("Pre-connecting to " + target);
+        return HttpClientRegistry.getInstance().preconnect(target, httpTransport, connectTimeout);
+    }
+
+    /**
+     * Copies the HTTP client configuration (transport, pre-connection, timeouts, retries, rate
+     * limits, hedging, response cache and circuit breakers) to a goal executed
+     * internally by this one.
+     *
+     * @param target The goal instance to configure
+     */
+    protected void copyHttpConfiguration(AbstractCentralMojo target) {
+        target.connectTimeout = this.connectTimeout;
+        target.readTimeout = this.readTimeout;
+        target.writeTimeout = this.writeTimeout;
+        target.maxRetries = this.maxRetries;
+        target.retryInitialDelay = this.retryInitialDelay;
+        target.retryMaxDelay = this.retryMaxDelay;
+        target.httpTransport = this.httpTransport;
+        target.preconnect = this.preconnect;
+        target.statusRateLimit = this.statusRateLimit;
+        target.listingRateLimit = this.listingRateLimit;
+        target.uploadRateLimit = this.uploadRateLimit;
+        target.mutateRateLimit = this.mutateRateLimit;
+        target.hedging = this.hedging;
+        target.hedgePercentile = this.hedgePercentile;
+        target.maxHedges = this.maxHedges;
+        target.hedgeMinDelay = this.hedgeMinDelay;
+        target.responseCache = this.responseCache;
+        target.responseCacheDirectory = this.responseCacheDirectory;
+        target.responseCacheTtl = this.responseCacheTtl;
+        target.responseCacheMaxSize = this.responseCacheMaxSize;
+        target.circuitBreakerFailureRate = this.circuitBreakerFailureRate;
+        target.circuitBreakerOpenTime = this.circuitBreakerOpenTime;
+    }
+
+    /**
+     * Writes the HTTP metrics if central.httpMetrics is enabled, and logs the
+     * shared HTTP client statistics if central.httpStatistics is enabled.
+     */
+    protected void logHttpStatistics() {
+        HttpClientSupport.logHttpStatistics(httpStatistics, httpMetrics, httpMetricsFile, getLog());
     }
 }
@@ -10,6 +10,7 @@
 
 package org.eclipse.cbi.central.plugin;
 
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.project.MavenProject;
@@ -21,8 +22,13 @@ import org.apache.maven.settings.crypto.DefaultSettingsDecryptionRequest;
 import org.apache.maven.settings.crypto.SettingsDecryptionResult;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoFailureException;
+import org.eclipse.cbi.central.ClientSettings;
+import org.eclipse.cbi.central.HttpClientRegistry;
+import org.eclipse.cbi.central.HttpTransport;
 import org.eclipse.cbi.central.NexusClient;
+import org.eclipse.cbi.central.RetryPolicy;
 
+import java.io.File;
 import java.util.List;
 
 /**
@@ -85,6 +91,85 @@ public abstract class AbstractNexusMojo extends AbstractMojo {
     @Parameter(property = "nexus.version")
     protected String version;
 
+    /**
+     * If true, log HTTP client and connection pool statistics at the end of the
+     * goal.
+     */
+    @Parameter(property = "nexus.httpStatistics", defaultValue = "true")
+    protected boolean httpStatistics;
+
+    /**
+     * If true, write the HTTP metrics of the build (per endpoint call counts,
+     * bytes, latency percentiles and status codes) as JSON at the end of the
+     * goal.
+     */
+    @Parameter(property = "nexus.httpMetrics", defaultValue = "false")
+    protected boolean httpMetrics;
+
+    /**
+     * File receiving the HTTP metrics when nexus.httpMetrics is enabled.
+     */
+    @Parameter(property = "nexus.httpMetricsFile", defaultValue = "${project.build.directory}/central-staging-http-metrics.json")
+    protected File httpMetricsFile;
+
+    /**
+     * Maximum number of retries for transient API failures (429, 5xx, network
+     * errors). 0 disables retries.
+     */
+    @Parameter(property = "nexus.maxRetries", defaultValue = "3")
+    protected int maxRetries;
+
+    /**
+     * HTTP transport sending the API requests: OKHTTP, or JDK for the
+     * java.net.http client with HTTP/2 multiplexing. The response cache is
+     * only used with OKHTTP.
+     */
+    @Parameter(property = "nexus.httpTransport", defaultValue = "OKHTTP")
+    protected HttpTransport.Type httpTransport;
+
+    /**
+     * If true, keep repository listing and component search responses in a persistent cache,
+     * so that later goals and builds can reuse them. Responses with an ETag or
+     * Last-Modified header are revalidated on each use.
+     */
+    @Parameter(property = "nexus.responseCache", defaultValue = "false")
+    protected boolean responseCache;
+
+    /**
+     * Directory of the persistent response cache.
+     */
+    @Parameter(property = "nexus.responseCacheDirectory", defaultValue = "${user.home}/.m2/central-staging-cache")
+    protected File responseCacheDirectory;
+
+    /**
+     * How long cached responses without ETag or Last-Modified header are
+     * reused, in seconds.
+     */
+    @Parameter(property = "nexus.responseCacheTtl", defaultValue = "60")
+    protected long responseCacheTtl;
+
+    /**
+     * Maximum size of the persistent response cache, in megabytes. The least
+     * recently used responses are evicted first.
+     */
+    @Parameter(property = "nexus.responseCacheMaxSize", defaultValue = "50")
+    protected long responseCacheMaxSize;
+
+    /**
+     * Failure percentage over the last 20 calls to a host (at least 5) that
+     * opens its circuit breaker. While open, calls to the host fail
+     * immediately instead of waiting for timeouts. 0 disables the breaker.
+     */
+    @Parameter(property = "nexus.circuitBreakerFailureRate", defaultValue = "50")
+    protected int circuitBreakerFailureRate;
+
+    /**
+     * How long an open circuit breaker refuses calls before letting a probe
+     * call through, in seconds.
+     */
+    @Parameter(property = "nexus.circuitBreakerOpenTime", defaultValue = "30")
+    protected long circuitBreakerOpenTime;
+
     /**
      * The Maven settings instance, used to retrieve server credentials.
      */
@@ -103,6 +188,12 @@ public abstract class AbstractNexusMojo extends AbstractMojo {
     @Parameter(defaultValue = "${project}", readonly = true, required = false)
     protected MavenProject project;
 
+    /**
+     * Maven session (injected by Maven).
+     */
+    @Parameter(defaultValue = "${session}", readonly = true)
+    protected MavenSession session;
+
     /**
      * Reactor projects for multi-module build (injected by Maven).
      */
@@ -203,11 +294,41 @@ public abstract class AbstractNexusMojo extends AbstractMojo {
         String user = getUsername();
         String pass = getPassword();
 
-        if (nexusApiUrl != null && !nexusApiUrl.isEmpty()) {
-            client = new NexusClient(user, pass, nexusApiUrl);
-        } else {
-            client = new NexusClient(user, pass);
-        }
+        HttpClientRegistry.getInstance().beginSession(session);
+        client = HttpClientRegistry.getInstance().nexusClient(user, pass,
+                nexusApiUrl != null && !nexusApiUrl.isEmpty() ? nexusApiUrl : null, clientSettings());
+        initCircuitBreakers(client.getBaseUrl());
         getLog().info("Nexus client initialized with base URL: " + client.getBaseUrl());
     }
+
+    /**
+     * Applies the circuit breaker settings of this goal to a host it calls.
+     * The breakers of other hosts keep the settings of the goals calling them.
+     *
+     * @param url Any URL of the host
+     */
+    protected void initCircuitBreakers(String url) {
+        HttpClientSupport.initCircuitBreaker(url, circuitBreakerFailureRate, circuitBreakerOpenTime);
+    }
+
+    /**
+     * Returns the client settings of this goal, with the persistent response
+     * cache if requested. Failing to create the cache only disables it.
+     *
+     * @return The client settings
+     */
+    protected ClientSettings clientSettings() {
+        return HttpClientSupport.clientSettings(httpTransport,
+                new RetryPolicy(maxRetries, RetryPolicy.DEFAULT.getInitialDelayMillis(),
+                        RetryPolicy.DEFAULT.getMaxDelayMillis()),
+                null, responseCache, responseCacheDirectory, responseCacheMaxSize, responseCacheTtl, getLog());
+    }
+
+    /**
+     * Writes the HTTP metrics if nexus.httpMetrics is enabled, and logs the
+     * shared HTTP client statistics if nexus.httpStatistics is enabled.
+     */
+    protected void logHttpStatistics() {
+        HttpClientSupport.logHttpStatistics(httpStatistics, httpMetrics, httpMetricsFile, getLog());
+    }
 }
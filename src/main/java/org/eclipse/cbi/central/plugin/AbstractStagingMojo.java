@@ -15,7 +15,6 @@ package org.eclipse.cbi.central.plugin;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.project.MavenProject;
-import org.apache.maven.execution.MavenSession;
 import org.apache.maven.shared.invoker.Invoker;
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -270,6 +269,22 @@ public abstract class AbstractStagingMojo extends AbstractCentralMojo {
     @Parameter(property = "central.downloadChecksums512", defaultValue = "false")
     protected boolean downloadChecksums512;
 
+    /**
+     * If true, place resolved files into the staging directory as hard links to
+     * the local repository, or with an in-kernel transfer when the two are on
+     * different file systems, instead of copying their bytes.
+     */
+    @Parameter(property = "central.stagingLinks", defaultValue = "true")
+    protected boolean stagingLinks;
+
+    /**
+     * If true, do not download again artifacts already in the staging directory
+     * whose checksum matches the remote file (the checksum reported by Nexus,
+     * or the remote .sha1 file), e.g. when rerunning after a failure.
+     */
+    @Parameter(property = "central.incremental", defaultValue = "false")
+    protected boolean incremental;
+
     /**
      * Comma-separated list of additional classifier.extension combinations to download.
      * Each entry can be:
@@ -307,6 +322,28 @@ public abstract class AbstractStagingMojo extends AbstractCentralMojo {
     @Parameter(property = "central.showMavenGoalOutput", defaultValue = "false")
     protected boolean showMavenGoalOutput;
 
+    // Concurrency Configuration
+    /**
+     * Number of platform threads running downloads, checksum computations and
+     * API calls concurrently when virtual threads are not used.
+     */
+    @Parameter(property = "central.threads", defaultValue = "8")
+    protected int threads;
+
+    /**
+     * If true, run concurrent work on virtual threads when Maven runs on Java
+     * 21 or later. Falls back to central.threads platform threads otherwise.
+     */
+    @Parameter(property = "central.virtualThreads", defaultValue = "true")
+    protected boolean virtualThreads;
+
+    /**
+     * Maximum number of reactor projects whose artifacts are listed and
+     * downloaded at once. 1 downloads sequentially.
+     */
+    @Parameter(property = "central.downloadThreads", defaultValue = "8")
+    protected int downloadThreads;
+
     // Nexus Resolution Configuration
     /**
      * If true, resolve artifacts by querying Nexus Repository Manager instead of
@@ -317,6 +354,15 @@ public abstract class AbstractStagingMojo extends AbstractCentralMojo {
     @Parameter(property = "central.nexusArtifactsResolution", defaultValue = "false")
     protected boolean nexusArtifactsResolution;
 
+    /**
+     * If true, download the files found by the Nexus query straight from their
+     * download URLs into the staging directory, with the Nexus credentials,
+     * instead of resolving them through the local repository. Files whose
+     * direct download fails are resolved as usual.
+     */
+    @Parameter(property = "central.nexusDirectDownload", defaultValue = "true")
+    protected boolean nexusDirectDownload;
+
     /**
      * Nexus Repository Manager REST API URL used when nexusArtifactsResolution is enabled.
      * Defaults to the standard Eclipse Nexus instance when not set.
@@ -374,12 +420,6 @@ public abstract class AbstractStagingMojo extends AbstractCentralMojo {
     @Parameter(defaultValue = "${reactorProjects}", readonly = true)
     protected List<MavenProject> reactorProjects;
 
-    /**
-     * Maven session (injected by Maven).
-     */
-    @Parameter(defaultValue = "${session}", readonly = true)
-    protected MavenSession session;
-
     /**
      * Maven invoker for executing Maven goals (injected by Maven).
      */
@@ -676,6 +716,38 @@ public abstract class AbstractStagingMojo extends AbstractCentralMojo {
         }
     }
 
+    /**
+     * Runs independent blocking tasks concurrently, on virtual threads when
+     * available, and waits for all of them.
+     *
+     * @param tasks The tasks to run
+     * @throws MojoFailureException if a task failed
+     */
+    void runConcurrently(List<StagingExecutor.Task> tasks) throws MojoFailureException {
+        try (StagingExecutor executor = StagingExecutor.create(this.threads, this.virtualThreads)) {
+            getLog().debug("Running " + tasks.size() + " tasks on "
+                    + (executor.isVirtual() ? "virtual threads" : this.threads + " platform threads"));
+            executor.runAll(tasks);
+        }
+    }
+
+    /**
+     * Runs independent blocking tasks like {@link #runConcurrently(List)}, with
+     * at most the given number running at once.
+     *
+     * @param tasks       The tasks to run
+     * @param concurrency The maximum number of tasks running at once
+     * @throws MojoFailureException if a task failed
+     */
+    void runConcurrently(List<StagingExecutor.Task> tasks, int concurrency) throws MojoFailureException {
+        int size = Math.max(1, concurrency);
+        try (StagingExecutor executor = StagingExecutor.create(size, this.virtualThreads, size)) {
+            getLog().debug("Running " + tasks.size() + " tasks, " + size + " at once on "
+                    + (executor.isVirtual() ? "virtual threads" : "platform threads"));
+            executor.runAll(tasks);
+        }
+    }
+
     // ================================================================================================
     // ADDITIONAL CLASSIFIERS PARSING
     // ================================================================================================
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central.plugin;
+
+import org.apache.maven.plugin.logging.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Log collecting the messages of a concurrent task, written to the build log
+ * as one block when the task ends so that the output of tasks running at the
+ * same time does not interleave.
+ */
+final class BufferedLog implements Log {
+
+    private enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    private record Entry(Level level, CharSequence content, Throwable error) {
+    }
+
+    private final Log target;
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * Creates a buffer.
+     *
+     * @param target The build log the messages are written to
+     */
+    BufferedLog(Log target) {
+        this.target = target;
+    }
+
+    /**
+     * Writes the collected messages to the build log and empties the buffer.
+     */
+    void flush() {
+        List<Entry> pending;
+        synchronized (this) {
+            pending = new ArrayList<>(entries);
+            entries.clear();
+        }
+        // Blocks of all buffers share the build log as lock
+        synchronized (target) {
+            for (Entry entry : pending) {
+                write(entry);
+            }
+        }
+    }
+
+    // Logs such as SystemStreamLog expect the error, when passed, to be non-null
+    private void write(Entry entry) {
+        CharSequence content = entry.content();
+        Throwable error = entry.error();
+        switch (entry.level()) {
+            case DEBUG -> {
+                if (error == null) {
+                    target.debug(content);
+                } else if (content == null) {
+                    target.debug(error);
+                } else {
+                    target.debug(content, error);
+                }
+            }
+            case INFO -> {
+                if (error == null) {
+                    target.info(content);
+                } else if (content == null) {
+                    target.info(error);
+                } else {
+                    target.info(content, error);
+                }
+            }
+            case WARN -> {
+                if (error == null) {
+                    target.warn(content);
+                } else if (content == null) {
+                    target.warn(error);
+                } else {
+                    target.warn(content, error);
+                }
+            }
+            case ERROR -> {
+                if (error == null) {
+                    target.error(content);
+                } else if (content == null) {
+                    target.error(error);
+                } else {
+                    target.error(content, error);
+                }
+            }
+        }
+    }
+
+    private synchronized void add(Level level, CharSequence content, Throwable error) {
+        entries.add(new Entry(level, content, error));
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return target.isDebugEnabled();
+    }
+
+    @Override
+    public void debug(CharSequence content) {
+        if (target.isDebugEnabled()) {
+            add(Level.DEBUG, content, null);
+        }
+    }
+
+    @Override
+    public void debug(CharSequence content, Throwable error) {
+        if (target.isDebugEnabled()) {
+            add(Level.DEBUG, content, error);
+        }
+    }
+
+    @Override
+    public void debug(Throwable error) {
+        if (target.isDebugEnabled()) {
+            add(Level.DEBUG, null, error);
+        }
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return target.isInfoEnabled();
+    }
+
+    @Override
+    public void info(CharSequence content) {
+        add(Level.INFO, content, null);
+    }
+
+    @Override
+    public void info(CharSequence content, Throwable error) {
+        add(Level.INFO, content, error);
+    }
+
+    @Override
+    public void info(Throwable error) {
+        add(Level.INFO, null, error);
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return target.isWarnEnabled();
+    }
+
+    @Override
+    public void warn(CharSequence content) {
+        add(Level.WARN, content, null);
+    }
+
+    @Override
+    public void warn(CharSequence content, Throwable error) {
+        add(Level.WARN, content, error);
+    }
+
+    @Override
+    public void warn(Throwable error) {
+        add(Level.WARN, null, error);
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return target.isErrorEnabled();
+    }
+
+    @Override
+    public void error(CharSequence content) {
+        add(Level.ERROR, content, null);
+    }
+
+    @Override
+    public void error(CharSequence content, Throwable error) {
+        add(Level.ERROR, content, error);
+    }
+
+    @Override
+    public void error(Throwable error) {
+        add(Level.ERROR, null, error);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central.plugin;
+
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.cbi.central.ClientSettings;
+import org.eclipse.cbi.central.HedgingPolicy;
+import org.eclipse.cbi.central.HttpClientRegistry;
+import org.eclipse.cbi.central.HttpTransport;
+import org.eclipse.cbi.central.RetryPolicy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * HTTP client configuration and reporting shared by the Central Portal and
+ * Nexus goals, which only differ by the prefix of their parameters.
+ */
+final class HttpClientSupport {
+
+    private HttpClientSupport() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * Applies circuit breaker settings to a host called by a goal. The
+     * breakers of other hosts keep the settings of the goals calling them.
+     *
+     * @param url             Any URL of the host
+     * @param failureRate     Failure percentage that opens the breaker, 0 to
+     *                        disable it
+     * @param openTimeSeconds How long the breaker stays open before probing
+     */
+    static void initCircuitBreaker(String url, int failureRate, long openTimeSeconds) {
+        HttpClientRegistry.getInstance().configureCircuitBreaker(url, failureRate, openTimeSeconds * 1000);
+    }
+
+    /**
+     * Returns client settings with the persistent response cache if requested.
+     * Failing to create the cache directory only disables the cache.
+     *
+     * @param transport       The transport
+     * @param retryPolicy     The retry policy
+     * @param hedgingPolicy   The hedging policy, or null
+     * @param responseCache   Whether the response cache is enabled
+     * @param cacheDirectory  The directory of the response cache
+     * @param cacheMaxSizeMb  Maximum size of the cache, in megabytes
+     * @param cacheTtlSeconds How long responses without validators stay
+     *                        fresh, in seconds
+     * @param log             The log
+     * @return The client settings
+     */
+    static ClientSettings clientSettings(HttpTransport.Type transport, RetryPolicy retryPolicy,
+            HedgingPolicy hedgingPolicy, boolean responseCache, File cacheDirectory, long cacheMaxSizeMb,
+            long cacheTtlSeconds, Log log) {
+        Path directory = null;
+        if (responseCache) {
+            try {
+                directory = Files.createDirectories(cacheDirectory.toPath());
+            } catch (IOException e) {
+                log.warn("Response cache disabled, cannot use " + cacheDirectory + ": " + e.getMessage());
+            }
+        }
+        return new ClientSettings(transport, retryPolicy, hedgingPolicy, directory, cacheMaxSizeMb * 1024 * 1024,
+                cacheTtlSeconds * 1000);
+    }
+
+    /**
+     * Writes the HTTP metrics as JSON if requested, and logs the shared HTTP
+     * client statistics if requested. A failure to write the metrics does not
+     * fail the goal.
+     *
+     * @param statistics  Whether to log the statistics
+     * @param metrics     Whether to write the metrics
+     * @param metricsFile The metrics file
+     * @param log         The log
+     */
+    static void logHttpStatistics(boolean statistics, boolean metrics, File metricsFile, Log log) {
+        if (metrics && metricsFile != null) {
+            try {
+                HttpClientRegistry.getInstance().writeMetrics(metricsFile.toPath());
+                log.info("HTTP metrics written to " + metricsFile);
+            } catch (IOException e) {
+                log.warn("Cannot write HTTP metrics to " + metricsFile + ": " + e.getMessage());
+            }
+        }
+        if (!statistics) {
+            return;
+        }
+        log.info("====================================================================");
+        log.info("HTTP Client Statistics");
+        log.info("====================================================================");
+        for (String line : HttpClientRegistry.getInstance().statistics()) {
+            log.info(line);
+        }
+        log.info("====================================================================");
+    }
+}
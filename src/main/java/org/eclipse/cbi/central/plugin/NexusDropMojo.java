@@ -12,12 +12,14 @@ package org.eclipse.cbi.central.plugin;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.cbi.central.NexusComponent;
 
 /**
  * Lists artifacts from a Nexus Repository Manager repository.
@@ -68,50 +70,48 @@ public class NexusDropMojo extends NexusListMojo {
             for (MavenProject targetProject : resolveTargetProjects()) {
                 getLog().info("Processing project: " + targetProject.getId().replace("null", "<empty>"));
 
-                // Perform search
-                Map<String, Object> result = client.searchComponents(
+                // Collect all pages before dropping anything: the continuation
+                // token is an offset in the search results, so deleting the
+                // components of a page would shift the following pages
+                List<NexusComponent> items;
+                try (Stream<NexusComponent> result = client.searchAll(
                         repository,
                         targetProject.getGroupId(),
                         targetProject.getArtifactId(),
-                        targetProject.getVersion());
-
-                // Process and display found artifacts
-                Object itemsObj = result.get("items");
-                if (!(itemsObj instanceof List)) {
-                    getLog().info("No artifacts found.");
-                    continue;
+                        targetProject.getVersion(),
+                        false)) {
+                    items = result.toList();
                 }
-
-                List<?> items = (List<?>) itemsObj;
                 if (items.isEmpty()) {
                     getLog().info("No artifacts found.");
                     continue;
                 }
 
-                getLog().info("Found " + items.size() + " artifact(s):");
+                getLog().info("Artifacts found:");
                 getLog().info("─────────────────────────────────────────────────────────────");
 
                 // Iterate and drop each found artifact
-                for (Object itemObj : items) {
-                    if (itemObj instanceof Map) {
-                        Map<?, ?> item = (Map<?, ?>) itemObj;
-                        String id = (String) item.get("id");
+                for (NexusComponent item : items) {
+                    String id = item.id();
 
-                        displayArtifact(item);
+                    displayArtifact(item);
 
-                        getLog().info("Dropping component with ID: " + id);
+                    getLog().info("Dropping component with ID: " + id);
 
-                        if (dryRun) {
-                            getLog().info("Dry run enabled: no components were dropped");
-                        } else {
-                            logDeleteResponse(client.deleteComponent(id));
-                        }
+                    if (dryRun) {
+                        getLog().info("Dry run enabled: no components were dropped");
+                    } else {
+                        logDeleteResponse(client.deleteComponent(id));
                     }
                 }
             }
         } catch (Exception e) {
             getLog().error("Failed to drop Nexus artifacts", e);
             throw new MojoFailureException("Failed to drop Nexus artifacts", e);
+        } finally {
+            if (client != null) {
+                logHttpStatistics();
+            }
         }
     }
 
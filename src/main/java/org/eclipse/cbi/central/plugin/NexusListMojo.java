@@ -15,8 +15,11 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugin.MojoFailureException;
-import java.util.Map;
-import java.util.List;
+import org.eclipse.cbi.central.NexusAsset;
+import org.eclipse.cbi.central.NexusComponent;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 /**
  * Lists artifacts from a Nexus Repository Manager repository.
@@ -59,19 +62,22 @@ public class NexusListMojo extends AbstractNexusMojo {
                 // Log search criteria
                 logSearchCriteria(effectiveGroup, effectiveArtifact);
 
-                // Perform search
-                Map<String, Object> result = client.searchComponents(
+                // Perform search, results are displayed page by page as they arrive
+                try (Stream<NexusComponent> result = client.searchAll(
                         repository,
                         effectiveGroup,
                         effectiveArtifact,
-                        version);
-
-                // Process and display results
-                displaySearchResults(result);
+                        version)) {
+                    displaySearchResults(result);
+                }
             }
         } catch (Exception e) {
             getLog().error("Failed to list Nexus artifacts", e);
             throw new MojoFailureException("Failed to list Nexus artifacts", e);
+        } finally {
+            if (client != null) {
+                logHttpStatistics();
+            }
         }
     }
 
@@ -130,84 +136,64 @@ public class NexusListMojo extends AbstractNexusMojo {
     /**
      * Displays the search results from the Nexus API response.
      */
-    private void displaySearchResults(Map<String, Object> result) {
-        Object itemsObj = result.get("items");
-        if (!(itemsObj instanceof List)) {
-            getLog().info("No artifacts found.");
-            return;
-        }
-
-        List<?> items = (List<?>) itemsObj;
-        if (items.isEmpty()) {
+    private void displaySearchResults(Stream<NexusComponent> result) {
+        Iterator<NexusComponent> items = result.iterator();
+        if (!items.hasNext()) {
             getLog().info("No artifacts found.");
             return;
         }
 
-        getLog().info("Found " + items.size() + " artifact(s):");
+        getLog().info("Artifacts found:");
         getLog().info("─────────────────────────────────────────────────────────────");
 
-        for (Object itemObj : items) {
-            if (itemObj instanceof Map) {
-                displayArtifact((Map<?, ?>) itemObj);
-            }
+        int count = 0;
+        while (items.hasNext()) {
+            displayArtifact(items.next());
+            count++;
         }
 
-        // Display continuation token if available
-        Object continuationTokenObj = result.get("continuationToken");
-        if (continuationTokenObj != null) {
-            getLog().info("─────────────────────────────────────────────────────────────");
-            getLog().info("Note: More results are available. The search returned a continuation token.");
-        }
+        getLog().info("─────────────────────────────────────────────────────────────");
+        getLog().info("Found " + count + " artifact(s).");
     }
 
     /**
      * Displays information about a single artifact.
      */
-    protected void displayArtifact(Map<?, ?> item) {
-        Object id = item.get("id");
-        Object repositoryObj = item.get("repository");
-        Object format = item.get("format");
-        Object groupObj = item.get("group");
-        Object name = item.get("name");
-        Object versionObj = item.get("version");
-
+    protected void displayArtifact(NexusComponent item) {
         // Build artifact display string
         StringBuilder display = new StringBuilder();
-        if (groupObj != null) {
-            display.append(groupObj).append(":");
+        if (item.group() != null) {
+            display.append(item.group()).append(":");
         }
-        if (name != null) {
-            display.append(name).append(":");
+        if (item.name() != null) {
+            display.append(item.name()).append(":");
         }
-        if (versionObj != null) {
-            display.append(versionObj);
+        if (item.version() != null) {
+            display.append(item.version());
         }
 
-        if (id != null) {
-            display.append(" (id=").append(id).append(")");
+        if (item.id() != null) {
+            display.append(" (id=").append(item.id()).append(")");
         }
 
         getLog().info("• " + display.toString());
 
         if (showDetails) {
-            if (repositoryObj != null) {
-                getLog().info("  Repository: " + repositoryObj);
+            if (item.repository() != null) {
+                getLog().info("  Repository: " + item.repository());
             }
-            if (format != null) {
-                getLog().info("  Format: " + format);
+            if (item.format() != null) {
+                getLog().info("  Format: " + item.format());
             }
-            if (id != null) {
-                getLog().info("  Component ID: " + id);
+            if (item.id() != null) {
+                getLog().info("  Component ID: " + item.id());
             }
 
             // Display assets if available
-            Object assetsObj = item.get("assets");
-            if (assetsObj instanceof List<?> assets && !assets.isEmpty()) {
-                getLog().info("  Assets (" + assets.size() + "):");
-                for (Object assetObj : assets) {
-                    if (assetObj instanceof Map) {
-                        displayAsset((Map<?, ?>) assetObj);
-                    }
+            if (!item.assets().isEmpty()) {
+                getLog().info("  Assets (" + item.assets().size() + "):");
+                for (NexusAsset asset : item.assets()) {
+                    displayAsset(asset);
                 }
             }
             getLog().info("");
@@ -217,18 +203,14 @@ public class NexusListMojo extends AbstractNexusMojo {
     /**
      * Displays information about a single asset.
      */
-    private void displayAsset(Map<?, ?> asset) {
-        Object path = asset.get("path");
-        Object downloadUrl = asset.get("downloadUrl");
-        Object contentType = asset.get("contentType");
-
-        if (path != null) {
-            getLog().info("    - " + path);
-            if (downloadUrl != null) {
-                getLog().info("      URL: " + downloadUrl);
+    private void displayAsset(NexusAsset asset) {
+        if (asset.path() != null) {
+            getLog().info("    - " + asset.path());
+            if (asset.downloadUrl() != null) {
+                getLog().info("      URL: " + asset.downloadUrl());
             }
-            if (contentType != null) {
-                getLog().info("      Type: " + contentType);
+            if (asset.contentType() != null) {
+                getLog().info("      Type: " + asset.contentType());
             }
         }
     }
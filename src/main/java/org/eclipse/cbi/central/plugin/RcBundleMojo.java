@@ -23,12 +23,14 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
 import org.apache.maven.project.MavenProject;
-import org.apache.commons.codec.digest.DigestUtils;
 import org.eclipse.aether.RepositorySystem;
 
 @Mojo(name = "rc-bundle", defaultPhase = LifecyclePhase.NONE, requiresProject = false)
@@ -97,6 +99,7 @@ public class RcBundleMojo extends AbstractStagingMojo {
         } else {
             getLog().info("No bundle created in dry-run mode.");
         }
+        logHttpStatistics();
     }
 
     // ================================================================================================
@@ -294,6 +297,13 @@ public class RcBundleMojo extends AbstractStagingMojo {
 
         getLog().info("Checking and generating checksums for downloaded artifacts if needed...");
 
+        // Digests computed by rc-download while downloading are written as is
+        StagingManifest manifest = StagingManifest.load(stagingDir);
+        LongAdder fromManifest = new LongAdder();
+        LongAdder computed = new LongAdder();
+
+        // Checksums of all projects are computed concurrently
+        List<StagingExecutor.Task> tasks = new ArrayList<>();
         for (MavenProject targetProject : targetProjects) {
             String groupId = targetProject.getGroupId();
             String artifactId = targetProject.getArtifactId();
@@ -309,31 +319,53 @@ public class RcBundleMojo extends AbstractStagingMojo {
                             + artifactId + ":"
                             + projectVersion);
                     generateMissingChecksums(artifactDir, artifactId, projectVersion, targetProject.getPackaging(),
-                            true);
+                            true, manifest, fromManifest, computed, tasks);
                 } else {
                     generateMissingChecksums(artifactDir, artifactId, projectVersion, targetProject.getPackaging(),
-                            false);
+                            false, manifest, fromManifest, computed, tasks);
                 }
             } else {
                 getLog().warn("Artifact directory not found for checksum generation: " + artifactDir.getAbsolutePath());
             }
         }
+        runConcurrently(tasks);
+
+        getLog().info("Checksum files written from digests computed while downloading: " + fromManifest.sum()
+                + ", computed from the staged files: " + computed.sum());
+        if (computed.sum() > 0) {
+            try {
+                manifest.save();
+            } catch (IOException e) {
+                getLog().warn("Failed to write digests of staged files to " + manifest.getFile() + ": "
+                        + e.getMessage());
+            }
+        }
     }
 
     /**
-     * Generates missing MD5 and SHA1 checksum files for artifacts in a directory.
+     * Plans the generation of missing MD5 and SHA1 checksum files for artifacts
+     * in a directory. The checksums of an artifact are written by one task,
+     * from the staging manifest or from a single read of the file.
      * 
      * @param artifactDir     The directory containing the artifacts
      * @param artifactId      The artifact ID
      * @param version         The version of the artifact
      * @param forceRegenerate If true, regenerate checksums even if they already
-     *                        exist
-     * @throws MojoFailureException if checksum generation fails
+     *                        exist, from the content of the files
+     * @param manifest        The digests computed while downloading
+     * @param fromManifest    Counts the checksums taken from the manifest
+     * @param computed        Counts the checksums computed from the files
+     * @param tasks           Receives the checksum generation tasks
      */
     private void generateMissingChecksums(File artifactDir, String artifactId, String version, String packaging,
-            boolean forceRegenerate)
-            throws MojoFailureException {
-        List<ChecksumType> checksumTypes = getChecksumTypes();
+            boolean forceRegenerate, StagingManifest manifest, LongAdder fromManifest, LongAdder computed,
+            List<StagingExecutor.Task> tasks) {
+        List<ChecksumType> checksumTypes = new ArrayList<>();
+        for (ChecksumType checksumType : getChecksumTypes()) {
+            if (checksumType.enabled) {
+                checksumTypes.add(checksumType);
+            }
+        }
 
         for (String artifactName : buildArtifactFileNames(artifactId, version, packaging)) {
             File artifactFile = new File(artifactDir, artifactName);
@@ -345,64 +377,68 @@ public class RcBundleMojo extends AbstractStagingMojo {
                     getLog().error("Required artifact file is missing: " + artifactName);
                 }
             } else {
-                // Generate checksums for all enabled types
+                // Generate the missing checksums of all enabled types
+                List<ChecksumType> missing = new ArrayList<>();
                 for (ChecksumType checksumType : checksumTypes) {
-                    if (checksumType.enabled) {
-                        generateChecksumForArtifact(artifactDir, artifactFile, artifactName,
-                                checksumType.label, checksumType.extension, forceRegenerate);
+                    if (forceRegenerate || !new File(artifactDir, artifactName + checksumType.extension).exists()) {
+                        missing.add(checksumType);
                     }
                 }
+                if (!missing.isEmpty()) {
+                    tasks.add(() -> generateChecksumsForArtifact(artifactDir, artifactFile, artifactName, missing,
+                            forceRegenerate, manifest, fromManifest, computed));
+                }
             }
         }
     }
 
     /**
-     * Generates a single checksum file for an artifact if missing or if force
-     * regeneration is requested.
+     * Writes checksum files for an artifact. Digests recorded in the staging
+     * manifest for the current content of the file are written as is; the
+     * others are computed together in a single read of the file.
      * 
      * @param artifactDir     The directory containing the artifacts
-     * @param artifactFile    The artifact file to generate checksum for
+     * @param artifactFile    The artifact file to generate checksums for
      * @param artifactName    The name of the artifact for logging
-     * @param algorithm       The hash algorithm (MD5, SHA-1, etc.)
-     * @param extension       The file extension for the checksum file (.md5, .sha1,
-     *                        etc.)
-     * @param forceRegenerate If true, regenerate checksum even if it already exists
+     * @param checksumTypes   The checksums to write
+     * @param forceRegenerate If true, compute all checksums from the file
+     * @param manifest        The digests computed while downloading
+     * @param fromManifest    Counts the checksums taken from the manifest
+     * @param computed        Counts the checksums computed from the file
      * @throws MojoFailureException if checksum generation fails
      */
-    private void generateChecksumForArtifact(File artifactDir, File artifactFile, String artifactName,
-            String algorithm, String extension, boolean forceRegenerate) throws MojoFailureException {
+    private void generateChecksumsForArtifact(File artifactDir, File artifactFile, String artifactName,
+            List<ChecksumType> checksumTypes, boolean forceRegenerate, StagingManifest manifest,
+            LongAdder fromManifest, LongAdder computed) throws MojoFailureException {
         try {
-            File checksumFile = new File(artifactDir, artifactName + extension);
-            if (forceRegenerate || !checksumFile.exists()) {
-                String hash = calculateHashWithCommonsCodec(artifactFile, algorithm);
-                java.nio.file.Files.write(checksumFile.toPath(), hash.getBytes());
+            Map<String, String> digests = new HashMap<>();
+            List<String> algorithms = new ArrayList<>();
+            for (ChecksumType checksumType : checksumTypes) {
+                String digest = forceRegenerate ? null : manifest.digest(artifactFile.toPath(), checksumType.label);
+                if (digest != null) {
+                    digests.put(checksumType.label, digest);
+                } else {
+                    algorithms.add(checksumType.label);
+                }
+            }
+            fromManifest.add(digests.size());
+            if (!algorithms.isEmpty()) {
+                Map<String, String> fileDigests = StagingManifest.digest(artifactFile.toPath(), algorithms);
+                manifest.record(artifactFile.toPath(), fileDigests);
+                digests.putAll(fileDigests);
+                computed.add(fileDigests.size());
+            }
+
+            for (ChecksumType checksumType : checksumTypes) {
+                File checksumFile = new File(artifactDir, artifactName + checksumType.extension);
+                StagingLinker.write(checksumFile.toPath(), digests.get(checksumType.label).getBytes());
 
                 String action = forceRegenerate ? "Force regenerated" : "Generated";
-                String algorithmName = algorithm.replace("-", "");
-                getLog().info(action + " " + algorithmName + " checksum for: " + artifactName + extension);
+                String algorithmName = checksumType.label.replace("-", "");
+                getLog().info(action + " " + algorithmName + " checksum for: " + artifactName + checksumType.extension);
             }
         } catch (Exception e) {
-            throw new MojoFailureException("Failed to generate " + algorithm + " checksum for " + artifactName, e);
-        }
-    }
-
-    /**
-     * Calculates a hash digest for a file using Apache Commons Codec.
-     * 
-     * @param file      The file to calculate hash for
-     * @param algorithm The hash algorithm (MD5, SHA-1, SHA-256, SHA-512)
-     * @return The hexadecimal representation of the hash
-     * @throws java.io.IOException if file reading fails
-     */
-    private String calculateHashWithCommonsCodec(File file, String algorithm) throws java.io.IOException {
-        try (java.io.FileInputStream fis = new java.io.FileInputStream(file)) {
-            return switch (algorithm) {
-                case "MD5" -> DigestUtils.md5Hex(fis);
-                case "SHA-1" -> DigestUtils.sha1Hex(fis);
-                case "SHA-256" -> DigestUtils.sha256Hex(fis);
-                case "SHA-512" -> DigestUtils.sha512Hex(fis);
-                default -> throw new IllegalArgumentException("Unsupported hash algorithm: " + algorithm);
-            };
+            throw new MojoFailureException("Failed to generate checksums for " + artifactName, e);
         }
     }
 
@@ -509,6 +545,9 @@ public class RcBundleMojo extends AbstractStagingMojo {
                         getLog().error("Required artifact file is missing: " + artifactName);
                     }
                 } else if (forceResign || !ascFile.exists()) {
+                    // A downloaded signature may be hard linked to the local
+                    // repository; it is removed rather than overwritten
+                    Files.deleteIfExists(ascFile.toPath());
                     signSingleArtifact(artifactFile, ascFile, artifactName);
                 } else {
                     getLog().info("Signature already present for: " + artifactName);
@@ -842,6 +881,7 @@ public class RcBundleMojo extends AbstractStagingMojo {
         downloadMojo.serverSyncId = this.serverSyncId;
         downloadMojo.repositoryUrl = this.repositoryUrl;
         downloadMojo.repositoryLayout = this.repositoryLayout;
+        copyHttpConfiguration(downloadMojo);
 
         // GAV configuration
         downloadMojo.namespace = this.namespace;
@@ -860,6 +900,9 @@ public class RcBundleMojo extends AbstractStagingMojo {
         // P2 and output configuration
         downloadMojo.p2Metadata = this.p2Metadata;
         downloadMojo.showMavenGoalOutput = this.showMavenGoalOutput;
+        downloadMojo.threads = this.threads;
+        downloadMojo.virtualThreads = this.virtualThreads;
+        downloadMojo.downloadThreads = this.downloadThreads;
 
         // Failure handling configuration
         downloadMojo.failOnMissingSourcesJavadoc = this.failOnMissingSourcesJavadoc;
@@ -873,9 +916,15 @@ public class RcBundleMojo extends AbstractStagingMojo {
         downloadMojo.downloadChecksums = this.downloadChecksums;
         downloadMojo.downloadChecksums256 = this.downloadChecksums256;
         downloadMojo.downloadChecksums512 = this.downloadChecksums512;
+        downloadMojo.generateChecksums = this.generateChecksums;
+        downloadMojo.generateChecksums256 = this.generateChecksums256;
+        downloadMojo.generateChecksums512 = this.generateChecksums512;
+        downloadMojo.stagingLinks = this.stagingLinks;
+        downloadMojo.incremental = this.incremental;
 
         // Nexus resolution
         downloadMojo.nexusArtifactsResolution = this.nexusArtifactsResolution;
+        downloadMojo.nexusDirectDownload = this.nexusDirectDownload;
         downloadMojo.nexusApiUrl = this.nexusApiUrl;
         downloadMojo.nexusRepository = this.nexusRepository;
         downloadMojo.nexusServerId = this.nexusServerId;
@@ -992,6 +1041,8 @@ public class RcBundleMojo extends AbstractStagingMojo {
         try (ZipOutputStream zos = new ZipOutputStream(Files.newOutputStream(outZip.toPath()));
                 java.util.stream.Stream<Path> stream = Files.walk(root)) {
             stream.filter(p -> p.toFile().isFile())
+                    // Temporary files of a killed rc-download or rc-bundle
+                    .filter(p -> !StagingLinker.isPartial(p))
                     .filter(p -> {
                         // Apply namespace filter if specified
                         if (filterPrefix != null) {
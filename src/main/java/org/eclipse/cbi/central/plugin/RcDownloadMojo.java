@@ -16,22 +16,45 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugin.logging.Log;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Repository;
+import org.eclipse.cbi.central.CircuitBreaker;
+import org.eclipse.cbi.central.HttpClientRegistry;
+import org.eclipse.cbi.central.NexusAsset;
 import org.eclipse.cbi.central.NexusClient;
+import org.eclipse.cbi.central.NexusComponent;
+import org.eclipse.cbi.central.RetryPolicy;
 
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.RepositorySystemSession;
 import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.repository.LocalRepository;
 import org.eclipse.aether.repository.RemoteRepository;
 import org.eclipse.aether.repository.Authentication;
 import org.eclipse.aether.util.repository.AuthenticationBuilder;
@@ -40,6 +63,10 @@ import org.eclipse.aether.artifact.DefaultArtifact;
 import org.eclipse.aether.resolution.ArtifactRequest;
 import org.eclipse.aether.resolution.ArtifactResult;
 import org.eclipse.aether.resolution.ArtifactResolutionException;
+import org.eclipse.aether.transfer.AbstractTransferListener;
+import org.eclipse.aether.transfer.ArtifactNotFoundException;
+import org.eclipse.aether.transfer.TransferEvent;
+import org.eclipse.aether.transfer.TransferResource;
 
 @Mojo(name = "rc-download", defaultPhase = LifecyclePhase.NONE, requiresProject = false)
 public class RcDownloadMojo extends AbstractStagingMojo {
@@ -47,6 +74,15 @@ public class RcDownloadMojo extends AbstractStagingMojo {
     /** Default repository layout */
     private static final String DEFAULT_LAYOUT = "default";
 
+    /**
+     * Digest algorithms of the checksum files by extension.
+     */
+    private static final Map<String, String> CHECKSUM_ALGORITHMS = Map.of(
+            "md5", "MD5",
+            "sha1", "SHA-1",
+            "sha256", "SHA-256",
+            "sha512", "SHA-512");
+
     /**
      * Maven Artifact Resolver system for downloading artifacts.
      * Injected by Maven.
@@ -56,18 +92,40 @@ public class RcDownloadMojo extends AbstractStagingMojo {
 
     /**
      * Cache of artifacts that failed to download during artifact resolution.
+     * Sorted sets keep the report stable whatever order concurrent downloads
+     * complete in.
      */
-    private final java.util.Set<String> failedDownloads = new java.util.HashSet<>();
+    private final Set<String> failedDownloads = new ConcurrentSkipListSet<>();
 
     /**
      * Cache of mandatory artifacts that failed to download.
      */
-    private final java.util.Set<String> failedMandatoryDownloads = new java.util.HashSet<>();
+    private final Set<String> failedMandatoryDownloads = new ConcurrentSkipListSet<>();
 
     /**
      * Cache of artifacts that were successfully downloaded.
      */
-    private final java.util.Set<String> successfulDownloads = new java.util.HashSet<>();
+    private final Set<String> successfulDownloads = new ConcurrentSkipListSet<>();
+
+    /**
+     * Places resolved files into the staging directory.
+     */
+    private StagingLinker stagingLinker;
+
+    /**
+     * Digests of the staged files, shared with rc-bundle.
+     */
+    private StagingManifest stagingManifest;
+
+    /**
+     * Algorithms of the digests computed for downloaded artifacts.
+     */
+    private List<String> digestAlgorithms;
+
+    /**
+     * Log of the download task running on the current thread, if any.
+     */
+    private final ThreadLocal<BufferedLog> taskLog = new ThreadLocal<>();
 
     // ================================================================================================
     // NEXUS ARTIFACT RESOLUTION PARAMETERS
@@ -137,6 +195,7 @@ public class RcDownloadMojo extends AbstractStagingMojo {
         logDryRunSummary();
 
         getLog().info("Download completed successfully.");
+        logHttpStatistics();
     }
 
     // ================================================================================================
@@ -151,22 +210,60 @@ public class RcDownloadMojo extends AbstractStagingMojo {
      */
     public void downloadFromRemote(List<MavenProject> targetProjects) throws MojoFailureException {
         Repository repo = requireRemoteRepository(this.serverSyncId);
+        HttpClientRegistry.getInstance().beginSession(session);
+        initCircuitBreakers(repo.getUrl());
+        Future<?> warmup = this.nexusArtifactsResolution && !this.dryRun
+                ? preconnect(this.nexusApiUrl != null && !this.nexusApiUrl.isBlank() ? this.nexusApiUrl
+                        : NexusClient.DEFAULT_BASE_URL)
+                : null;
+        try {
+            downloadFromRemote(repo, targetProjects);
+        } finally {
+            if (warmup != null) {
+                warmup.cancel(false);
+            }
+        }
+    }
+
+    private void downloadFromRemote(Repository repo, List<MavenProject> targetProjects) throws MojoFailureException {
         File stagingDir = new File(prepareStagingDirectory());
         if (!stagingDir.exists() && !stagingDir.mkdirs()) {
             throw new MojoFailureException("Failed to create staging directory: " + stagingDir);
         }
+        try {
+            StagingLinker.deletePartialFiles(stagingDir.toPath(), getLog());
+        } catch (IOException e) {
+            throw new MojoFailureException("Failed to clean staging directory: " + stagingDir, e);
+        }
+        this.stagingLinker = new StagingLinker(this.stagingLinks);
+        this.stagingManifest = StagingManifest.load(stagingDir);
+        this.digestAlgorithms = digestAlgorithms();
 
         try {
-            // For each target project, download its artifacts via dependency:get
+            // Download the artifacts of several projects at once; the artifacts
+            // of a project are resolved in batches. A project missing a
+            // mandatory artifact fails the goal as soon as it is done, and the
+            // projects not started yet are skipped
+            List<StagingExecutor.Task> projectTasks = new ArrayList<>();
             for (MavenProject targetProject : targetProjects) {
-                String g = targetProject.getGroupId();
-                String a = targetProject.getArtifactId();
-                String v = targetProject.getVersion();
-
-                getLog().info("Downloading artifacts for " + g + ":" + a + ":" + v);
-                // Download the artifacts
-                downloadArtifacts(repo, targetProject, stagingDir);
+                projectTasks.add(withTaskLog(() -> {
+                    String g = targetProject.getGroupId();
+                    String a = targetProject.getArtifactId();
+                    String v = targetProject.getVersion();
+
+                    if (!failedMandatoryDownloads.isEmpty()) {
+                        getLog().info("Skipping " + g + ":" + a + ":" + v
+                                + ": a mandatory artifact failed to download");
+                        return;
+                    }
+                    getLog().info("Downloading artifacts for " + g + ":" + a + ":" + v);
+                    List<ArtifactDownloadContext> projectArtifacts = new ArrayList<>();
+                    collectArtifacts(repo, targetProject, stagingDir, projectArtifacts);
+                    downloadProjectArtifacts(projectArtifacts);
+                    validateMandatoryDownloads();
+                }));
             }
+            runConcurrently(projectTasks, this.downloadThreads);
 
             if (this.dryRun) {
                 getLog().info("DRY-RUN: Download simulation completed");
@@ -174,14 +271,81 @@ public class RcDownloadMojo extends AbstractStagingMojo {
 
             // Log global download statistics for all packages
             logGlobalDownloadStatistics(targetProjects.size());
+            this.stagingLinker.logSummary(getLog());
 
             getLog().info("Artifacts downloaded to staging directory: " + stagingDir.getAbsolutePath());
 
         } catch (Exception e) {
             // Log global download statistics for all packages
             logGlobalDownloadStatistics(targetProjects.size());
+            this.stagingLinker.logSummary(getLog());
             throw new MojoFailureException("Failed to download artifacts", e);
+        } finally {
+            saveStagingManifest();
+        }
+    }
+
+    /**
+     * Returns the algorithms of the digests computed while downloading: SHA-1,
+     * which checks the downloaded files and serves the incremental mode, and
+     * those of the checksum files downloaded or generated by rc-bundle. MD5
+     * adds nothing to SHA-1 to check a download, so it is only computed when
+     * rc-bundle generates the checksum files instead of downloading them.
+     */
+    private List<String> digestAlgorithms() {
+        List<String> algorithms = new ArrayList<>();
+        if (this.generateChecksums && !this.downloadChecksums) {
+            algorithms.add("MD5");
+        }
+        algorithms.add("SHA-1");
+        if (this.downloadChecksums256 || this.generateChecksums256) {
+            algorithms.add("SHA-256");
+        }
+        if (this.downloadChecksums512 || this.generateChecksums512) {
+            algorithms.add("SHA-512");
         }
+        return algorithms;
+    }
+
+    private void saveStagingManifest() {
+        if (this.dryRun) {
+            return;
+        }
+        try {
+            this.stagingManifest.save();
+            getLog().debug("Digests of staged files written to " + this.stagingManifest.getFile());
+        } catch (IOException e) {
+            getLog().warn("Failed to write digests of staged files to " + this.stagingManifest.getFile() + ": "
+                    + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the log of the download task running on the current thread, so
+     * that the messages of concurrent tasks are written as separate blocks,
+     * or the build log outside of tasks.
+     */
+    @Override
+    public Log getLog() {
+        BufferedLog log = taskLog.get();
+        return log != null ? log : super.getLog();
+    }
+
+    /**
+     * Wraps a task so that its log messages are written as one block when it
+     * ends.
+     */
+    private StagingExecutor.Task withTaskLog(StagingExecutor.Task task) {
+        return () -> {
+            BufferedLog log = new BufferedLog(super.getLog());
+            taskLog.set(log);
+            try {
+                task.run();
+            } finally {
+                taskLog.remove();
+                log.flush();
+            }
+        };
     }
 
     // ================================================================================================
@@ -226,9 +390,20 @@ public class RcDownloadMojo extends AbstractStagingMojo {
         final String classifier;
         final File targetDir;
         final boolean isMandatory;
+        /** Checksums of the remote file by algorithm name (sha1, sha256), if known */
+        final Map<String, String> checksums;
+        /** Nexus download URLs of the file and its sidecars by extension, if known */
+        final Map<String, String> downloadUrls;
 
         ArtifactDownloadContext(RemoteRepository remoteRepo, String groupId, String artifactId,
                 String version, String extension, String classifier, File targetDir, boolean isMandatory) {
+            this(remoteRepo, groupId, artifactId, version, extension, classifier, targetDir, isMandatory, Map.of(),
+                    Map.of());
+        }
+
+        ArtifactDownloadContext(RemoteRepository remoteRepo, String groupId, String artifactId,
+                String version, String extension, String classifier, File targetDir, boolean isMandatory,
+                Map<String, String> checksums, Map<String, String> downloadUrls) {
             this.remoteRepo = remoteRepo;
             this.groupId = groupId;
             this.artifactId = artifactId;
@@ -237,6 +412,8 @@ public class RcDownloadMojo extends AbstractStagingMojo {
             this.classifier = classifier;
             this.targetDir = targetDir;
             this.isMandatory = isMandatory;
+            this.checksums = checksums;
+            this.downloadUrls = downloadUrls;
         }
     }
 
@@ -274,37 +451,53 @@ public class RcDownloadMojo extends AbstractStagingMojo {
     }
 
     /**
-     * Downloads an artifact using Maven Artifact Resolver directly.
+     * Resolves artifacts from a remote repository using Maven Artifact Resolver
+     * directly. The artifacts are requested at once, so that the resolver
+     * downloads them in parallel over its repository connector.
      * 
      * @param remoteRepo The remote repository to download from
-     * @param groupId    The group ID of the artifact
-     * @param artifactId The artifact ID
-     * @param version    The version of the artifact
-     * @param extension  The file extension (jar, pom, xml, etc.)
-     * @param classifier The classifier (sources, javadoc, p2artifacts, etc.) or
-     *                   null
-     * @param targetDir  The target directory to copy the artifact to
-     * @return true if successful, false if failed
+     * @param artifacts  The artifacts to resolve
+     * @return The result of each artifact, in the order of the artifacts; the
+     *         results of the artifacts that failed are not resolved
      */
-    private boolean downloadArtifactWithResolver(RemoteRepository remoteRepo, String groupId, String artifactId,
-            String version, String extension, String classifier, File targetDir) {
+    private List<ArtifactResult> resolveArtifacts(RemoteRepository remoteRepo, List<Artifact> artifacts) {
+        return resolveArtifacts(remoteRepo, artifacts, null);
+    }
 
-        String coords = groupId + ":" + artifactId + ":" + extension + ":" + version;
-        if (classifier != null && !classifier.isEmpty()) {
-            coords = groupId + ":" + artifactId + ":" + extension + ":" + classifier + ":" + version;
+    /**
+     * Resolves artifacts like {@link #resolveArtifacts(RemoteRepository, List)},
+     * optionally into another local repository than the one of the build.
+     *
+     * @param remoteRepo      The remote repository to download from
+     * @param artifacts       The artifacts to resolve
+     * @param localRepository An empty directory to use as local repository, so
+     *                        that the artifacts are downloaded again instead of
+     *                        being taken from the local repository of the
+     *                        build, or null
+     * @return The result of each artifact, in the order of the artifacts
+     */
+    private List<ArtifactResult> resolveArtifacts(RemoteRepository remoteRepo, List<Artifact> artifacts,
+            File localRepository) {
+        List<ArtifactRequest> requests = new ArrayList<>(artifacts.size());
+        for (Artifact artifact : artifacts) {
+            getLog().debug("Resolving artifact: " + artifact);
+            requests.add(new ArtifactRequest(artifact, Collections.singletonList(remoteRepo), null));
         }
 
+        // Fail fast while the repository host keeps failing instead of waiting
+        // out the connect timeout for every artifact and sidecar
+        CircuitBreaker breaker = HttpClientRegistry.getInstance().circuitBreaker(remoteRepo.getUrl());
+        if (!breaker.tryAcquire()) {
+            getLog().warn("Skipping " + artifacts.size() + " artifact(s): repository host " + breaker.getName()
+                    + " is unavailable (circuit breaker open)");
+            List<ArtifactResult> results = new ArrayList<>(requests.size());
+            for (ArtifactRequest request : requests) {
+                results.add(new ArtifactResult(request));
+            }
+            return results;
+        }
+        boolean hostAvailable = true;
         try {
-            // Create the artifact descriptor
-            Artifact artifact = new DefaultArtifact(coords);
-
-            getLog().debug("Resolving artifact: " + artifact);
-
-            // Create the artifact request
-            ArtifactRequest request = new ArtifactRequest();
-            request.setArtifact(artifact);
-            request.setRepositories(Collections.singletonList(remoteRepo));
-
             // Get the repository system session from Maven session
             // Create a new session without WorkspaceReader to force resolution from local
             // cache only
@@ -312,49 +505,107 @@ public class RcDownloadMojo extends AbstractStagingMojo {
             DefaultRepositorySystemSession localCacheSession = new DefaultRepositorySystemSession(repositorySession);
             // Remove WorkspaceReader to prevent resolution from reactor projects
             localCacheSession.setWorkspaceReader(null);
+            // Report transfers in the log of this download, the build log
+            // would mix the transfers of concurrent downloads
+            localCacheSession.setTransferListener(new TransferLog(getLog()));
+            if (localRepository != null) {
+                localCacheSession.setLocalRepositoryManager(repositorySystem.newLocalRepositoryManager(
+                        localCacheSession, new LocalRepository(localRepository)));
+            }
 
-            // Resolve the artifact using the modified session
-            ArtifactResult result = repositorySystem.resolveArtifact(localCacheSession, request);
-
-            if (result.isResolved()) {
-                File resolvedFile = result.getArtifact().getFile();
+            // Resolve the artifacts using the modified session
+            return repositorySystem.resolveArtifacts(localCacheSession, requests);
 
-                // Build the target filename
-                String targetFileName = artifactId + "-" + version;
-                if (classifier != null && !classifier.isEmpty()) {
-                    targetFileName += "-" + classifier;
-                }
-                targetFileName += "." + extension;
+        } catch (ArtifactResolutionException e) {
+            // Some artifacts failed, the results still hold those resolved
+            hostAvailable = isNotFound(e);
+            return e.getResults();
+        } finally {
+            if (hostAvailable) {
+                breaker.onSuccess();
+            } else {
+                breaker.onFailure();
+            }
+        }
+    }
 
-                File targetFile = new File(targetDir, targetFileName);
+    /**
+     * Places a resolved artifact into the target directory of its download.
+     * 
+     * @param result    The resolution result of the artifact
+     * @param context   The download context of the artifact, or of the artifact
+     *                  a signature or checksum file belongs to
+     * @param extension The file extension (jar, pom, jar.asc, etc.)
+     * @return true if successful, false if the artifact was not resolved or
+     *         could not be staged
+     */
+    private boolean stageResolvedArtifact(ArtifactResult result, ArtifactDownloadContext context, String extension) {
+        String coords = result.getRequest().getArtifact().toString();
+        if (!result.isResolved()) {
+            for (Exception cause : result.getExceptions()) {
+                getLog().debug("Failed to resolve artifact: " + coords + " - " + cause.getMessage());
+            }
+            return false;
+        }
 
-                // Copy the file to the staging directory
-                if (!targetDir.exists()) {
-                    targetDir.mkdirs();
-                }
-                getLog().info("Copying resolved artifact From " + resolvedFile.getAbsolutePath() + " to: "
-                        + targetFile.getAbsolutePath());
-                Files.copy(resolvedFile.toPath(), targetFile.toPath(),
-                        java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+        File resolvedFile = result.getArtifact().getFile();
+        File targetFile = stagedFile(context, extension);
+        String targetFileName = targetFile.getName();
 
-                getLog().info("Successfully resolved and copied: " + coords + " -> " + targetFileName);
-                return true;
-            } else {
-                getLog().warn("Artifact not resolved: " + coords);
-                return false;
+        try {
+            // Link or copy the file to the staging directory
+            if (!context.targetDir.exists()) {
+                context.targetDir.mkdirs();
             }
+            StagingLinker.Method method = this.stagingLinker.stage(resolvedFile.toPath(), targetFile.toPath());
+            getLog().info("Staged resolved artifact From " + resolvedFile.getAbsolutePath() + " to: "
+                    + targetFile.getAbsolutePath() + " (" + method.name().toLowerCase() + ")");
 
-        } catch (ArtifactResolutionException e) {
-            getLog().debug("Failed to resolve artifact: " + coords + " - " + e.getMessage());
-            return false;
+            getLog().info("Successfully resolved and staged: " + coords + " -> " + targetFileName);
+            return true;
         } catch (IOException e) {
-            getLog().error("Failed to copy artifact: " + coords + " - " + e.getMessage());
+            getLog().error("Failed to stage artifact: " + coords + " - " + e.getMessage());
             return false;
         }
     }
 
     /**
-     * Downloads artifacts using Maven Artifact Resolver API directly.
+     * Logs completed transfers like the Maven CLI, to the given log.
+     */
+    private static final class TransferLog extends AbstractTransferListener {
+
+        private final Log log;
+
+        TransferLog(Log log) {
+            this.log = log;
+        }
+
+        @Override
+        public void transferSucceeded(TransferEvent event) {
+            TransferResource resource = event.getResource();
+            log.info("Downloaded from " + resource.getRepositoryId() + ": " + resource.getRepositoryUrl()
+                    + resource.getResourceName() + " (" + event.getTransferredBytes() + " B)");
+        }
+    }
+
+    /**
+     * Returns true if a resolution failed only because the repository answered
+     * that the artifact does not exist, which shows the host is available.
+     */
+    private static boolean isNotFound(ArtifactResolutionException e) {
+        for (ArtifactResult result : e.getResults()) {
+            for (Exception cause : result.getExceptions()) {
+                if (!(cause instanceof ArtifactNotFoundException)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lists the artifacts of a project to download using Maven Artifact Resolver
+     * API directly.
      * 
      * This method replaces the two-step dependency:get + dependency:copy approach
      * with direct artifact resolution using Maven Artifact Resolver.
@@ -366,9 +617,11 @@ public class RcDownloadMojo extends AbstractStagingMojo {
      * @param repo       The repository to download from
      * @param project    The Maven project containing GAV and packaging information
      * @param stagingDir The staging directory to download to
-     * @throws MojoFailureException if the download fails
+     * @param artifacts  The list the artifacts to download are added to
+     * @throws MojoFailureException if the artifacts cannot be listed
      */
-    private void downloadArtifacts(Repository repo, MavenProject project, File stagingDir) throws MojoFailureException {
+    private void collectArtifacts(Repository repo, MavenProject project, File stagingDir,
+            List<ArtifactDownloadContext> artifacts) throws MojoFailureException {
         String groupId = project.getGroupId();
         String artifactId = project.getArtifactId();
         String projectVersion = project.getVersion();
@@ -400,16 +653,17 @@ public class RcDownloadMojo extends AbstractStagingMojo {
         syntheticModel.setArtifactId(artifactId);
         syntheticModel.setVersion(projectVersion);
 
-        // Download artifacts: either via Nexus query or by inferring from packaging type
+        // List artifacts: either via Nexus query or by inferring from packaging type
         if (this.nexusArtifactsResolution) {
-            downloadArtifactsByNexusAPI(remoteRepo, groupId, artifactId, projectVersion, targetDir);
+            collectArtifactsByNexusAPI(remoteRepo, groupId, artifactId, projectVersion, targetDir, artifacts);
         } else {
-            downloadArtifactsByPackaging(remoteRepo, groupId, artifactId, projectVersion, packaging, targetDir);
+            collectArtifactsByPackaging(remoteRepo, groupId, artifactId, projectVersion, packaging, targetDir,
+                    artifacts);
         }
     }
 
     /**
-     * Downloads artifacts based on packaging type using Maven Artifact Resolver.
+     * Lists the artifacts to download based on packaging type.
      * 
      * @param remoteRepo The remote repository
      * @param groupId    The group ID
@@ -417,121 +671,137 @@ public class RcDownloadMojo extends AbstractStagingMojo {
      * @param version    The version
      * @param packaging  The packaging type
      * @param targetDir  The target directory
-     * @throws MojoFailureException if a mandatory artifact fails to download
+     * @param artifacts  The list the artifacts to download are added to
      */
-    private void downloadArtifactsByPackaging(RemoteRepository remoteRepo, String groupId, String artifactId,
-            String version, String packaging, File targetDir) throws MojoFailureException {
+    private void collectArtifactsByPackaging(RemoteRepository remoteRepo, String groupId, String artifactId,
+            String version, String packaging, File targetDir, List<ArtifactDownloadContext> artifacts) {
 
         getLog().info("Resolving artifacts via Maven for " + groupId + ":" + artifactId + ":" + version);
 
-        downloadArtifactAndSidecars(new ArtifactDownloadContext(
+        artifacts.add(new ArtifactDownloadContext(
                 remoteRepo, groupId, artifactId, version, "pom", null, targetDir, true));
 
         // Download main artifact based on packaging
         if (ECLIPSE_REPOSITORY_PACKAGING.equals(packaging)) {
             // Eclipse repository produces ZIP artifacts
-            downloadArtifactAndSidecars(new ArtifactDownloadContext(
+            artifacts.add(new ArtifactDownloadContext(
                     remoteRepo, groupId, artifactId, version, "zip", null, targetDir, false));
         } else if (!POM_PACKAGING.equals(packaging)) {
             // Standard JAR packaging (includes eclipse-feature and eclipse-plugin)
-            downloadArtifactAndSidecars(new ArtifactDownloadContext(
+            artifacts.add(new ArtifactDownloadContext(
                     remoteRepo, groupId, artifactId, version, "jar", null, targetDir, false));
         }
 
         // Download sources and javadoc (not for eclipse-repository and pom packaging)
         if (!ECLIPSE_REPOSITORY_PACKAGING.equals(packaging) && !POM_PACKAGING.equals(packaging)) {
-            downloadArtifactAndSidecars(new ArtifactDownloadContext(
+            artifacts.add(new ArtifactDownloadContext(
                     remoteRepo, groupId, artifactId, version, "jar", "sources", targetDir, false));
-            downloadArtifactAndSidecars(new ArtifactDownloadContext(
+            artifacts.add(new ArtifactDownloadContext(
                     remoteRepo, groupId, artifactId, version, "jar", "javadoc", targetDir, false));
         }
 
         // Download P2 metadata if needed
         boolean shouldIncludeP2 = this.p2Metadata || isEclipsePackaging(packaging);
         if (shouldIncludeP2) {
-            downloadArtifactAndSidecars(new ArtifactDownloadContext(
+            artifacts.add(new ArtifactDownloadContext(
                     remoteRepo, groupId, artifactId, version, "xml", "p2artifacts", targetDir, false));
-            downloadArtifactAndSidecars(new ArtifactDownloadContext(
+            artifacts.add(new ArtifactDownloadContext(
                     remoteRepo, groupId, artifactId, version, "xml", "p2metadata", targetDir, false));
         }
 
         // Download additional classifiers if configured
-        downloadAdditionalClassifiers(remoteRepo, groupId, artifactId, version, targetDir);
-
-        // Validate that all mandatory artifacts were downloaded successfully
-        validateMandatoryDownloads();
+        collectAdditionalClassifiers(remoteRepo, groupId, artifactId, version, targetDir, artifacts);
     }
 
     /**
-     * Downloads artifacts by querying the Nexus Repository Manager REST API for
-     * the actual list of assets. This is an alternative to packaging-based resolution
-     * ({@link #downloadArtifactsByPackaging}) and downloads exactly the files that
-     * exist in Nexus rather than guessing from the packaging type.
+     * Lists the artifacts to download by querying the Nexus Repository Manager REST
+     * API for the actual list of assets. This is an alternative to packaging-based
+     * resolution ({@link #collectArtifactsByPackaging}) and downloads exactly the
+     * files that exist in Nexus rather than guessing from the packaging type.
      *
      * @param remoteRepo The Aether remote repository used for the actual download
      * @param groupId    The group ID
      * @param artifactId The artifact ID
      * @param version    The version
      * @param targetDir  The target directory for the downloaded files
-     * @throws MojoFailureException if the Nexus query fails or a mandatory artifact
-     *                              cannot be downloaded
+     * @param artifacts  The list the artifacts to download are added to
+     * @throws MojoFailureException if the Nexus query fails
      */
-    private void downloadArtifactsByNexusAPI(RemoteRepository remoteRepo, String groupId, String artifactId,
-            String version, File targetDir) throws MojoFailureException {
+    private void collectArtifactsByNexusAPI(RemoteRepository remoteRepo, String groupId, String artifactId,
+            String version, File targetDir, List<ArtifactDownloadContext> artifacts) throws MojoFailureException {
         getLog().info("Resolving artifacts via Nexus query for " + groupId + ":" + artifactId + ":" + version);
 
         NexusClient nexusClient = buildNexusClient();
 
-        Map<String, Object> searchResult;
-        try {
-            searchResult = nexusClient.searchComponents(this.nexusRepository, groupId, artifactId, version);
-        } catch (IOException e) {
-            throw new MojoFailureException(
-                    "Failed to query Nexus for " + groupId + ":" + artifactId + ":" + version, e);
-        }
-
-        Object itemsObj = searchResult.get("items");
-        if (!(itemsObj instanceof List<?> items) || items.isEmpty()) {
-            getLog().warn("No components found in Nexus for " + groupId + ":" + artifactId + ":" + version
-                    + ". Nothing to download.");
-            return;
-        }
+        // The next page of the search is fetched while the assets of the
+        // current one are listed
+        int count = 0;
+        try (Stream<NexusComponent> components = nexusClient.searchAll(this.nexusRepository, groupId, artifactId,
+                version)) {
+            Iterator<NexusComponent> items = components.iterator();
+            if (!items.hasNext()) {
+                getLog().warn("No components found in Nexus for " + groupId + ":" + artifactId + ":" + version
+                        + ". Nothing to download.");
+                return;
+            }
 
-        getLog().info("Found " + items.size() + " component(s) in Nexus - downloading assets");
+            getLog().info("Listing assets of the components found in Nexus");
 
-        for (Object itemObj : items) {
-            if (!(itemObj instanceof Map<?, ?> item)) continue;
-            Object assetsObj = item.get("assets");
-            if (!(assetsObj instanceof List<?> assets)) continue;
+            while (items.hasNext()) {
+                NexusComponent item = items.next();
+                count++;
 
-            for (Object assetObj : assets) {
-                if (!(assetObj instanceof Map<?, ?> asset)) continue;
+                // Download URLs of all files of the component, sidecars included
+                Map<String, String> assetUrls = new HashMap<>();
+                for (NexusAsset asset : item.assets()) {
+                    String[] extAndClassifier = extractMaven2Coordinates(asset, artifactId, version);
+                    if (extAndClassifier != null && asset.downloadUrl() != null) {
+                        assetUrls.put(extAndClassifier[1] + ":" + extAndClassifier[0], asset.downloadUrl());
+                    }
+                }
 
-                String[] extAndClassifier = extractMaven2Coordinates(asset, artifactId, version);
-                if (extAndClassifier == null) continue;
+                for (NexusAsset asset : item.assets()) {
+                    String[] extAndClassifier = extractMaven2Coordinates(asset, artifactId, version);
+                    if (extAndClassifier == null) continue;
 
-                String extension = extAndClassifier[0];
-                String classifier = extAndClassifier[1]; // may be null
+                    String extension = extAndClassifier[0];
+                    String classifier = extAndClassifier[1]; // may be null
 
-                // Skip sidecar files — downloadArtifactAndSidecars handles them
-                if (isSidecarExtension(extension)) {
-                    continue;
-                }
+                    // Skip sidecar files — downloadProjectArtifacts handles them
+                    if (isSidecarExtension(extension)) {
+                        continue;
+                    }
 
-                // The POM is the only mandatory artifact
-                boolean isMandatory = "pom".equals(extension) && classifier == null;
+                    // The POM is the only mandatory artifact
+                    boolean isMandatory = "pom".equals(extension) && classifier == null;
+
+                    Map<String, String> downloadUrls = new HashMap<>();
+                    for (String fileExtension : List.of(extension, extension + ASC_EXTENSION,
+                            extension + MD5_EXTENSION, extension + SHA1_EXTENSION, extension + SHA256_EXTENSION,
+                            extension + SHA512_EXTENSION)) {
+                        String url = assetUrls.get(classifier + ":" + fileExtension);
+                        if (url != null) {
+                            downloadUrls.put(fileExtension, url);
+                        }
+                    }
 
-                downloadArtifactAndSidecars(new ArtifactDownloadContext(
-                        remoteRepo, groupId, artifactId, version, extension, classifier, targetDir, isMandatory));
+                    artifacts.add(new ArtifactDownloadContext(remoteRepo, groupId, artifactId, version, extension,
+                            classifier, targetDir, isMandatory, asset.checksum(), downloadUrls));
+                }
             }
+        } catch (UncheckedIOException e) {
+            throw new MojoFailureException(
+                    "Failed to query Nexus for " + groupId + ":" + artifactId + ":" + version, e.getCause());
         }
 
-        validateMandatoryDownloads();
+        getLog().info("Processed " + count + " component(s) from Nexus");
     }
 
     /**
-     * Creates a {@link NexusClient} using credentials resolved from settings.xml
-     * via the {@code nexus.serverId} server entry (default: {@code "nexus"}).
+     * Returns the shared {@link NexusClient} for the credentials resolved from
+     * settings.xml via the {@code nexus.serverId} server entry (default:
+     * {@code "nexus"}). Repeated calls for other reactor projects reuse the same
+     * client and its pooled connections.
      *
      * @return a configured NexusClient instance
      */
@@ -548,39 +818,38 @@ public class RcDownloadMojo extends AbstractStagingMojo {
                 getLog().warn("No server entry found in settings.xml for nexus.serverId: " + this.nexusServerId);
             }
         }
-        return (this.nexusApiUrl != null && !this.nexusApiUrl.isBlank())
-                ? new NexusClient(username, password, this.nexusApiUrl)
-                : new NexusClient(username, password);
+        HttpClientRegistry.getInstance().beginSession(session);
+        NexusClient nexusClient = HttpClientRegistry.getInstance().nexusClient(username, password,
+                (this.nexusApiUrl != null && !this.nexusApiUrl.isBlank()) ? this.nexusApiUrl : null,
+                clientSettings(RetryPolicy.DEFAULT, null));
+        initCircuitBreakers(nexusClient.getBaseUrl());
+        return nexusClient;
     }
 
     /**
-     * Extracts the Maven extension and classifier from a Nexus asset map.
-     * Tries the {@code maven2} metadata sub-map first (most reliable), then
+     * Extracts the Maven extension and classifier from a Nexus asset.
+     * Tries the {@code maven2} metadata first (most reliable), then
      * falls back to parsing the asset {@code path}.
      *
-     * @param asset      The Nexus asset map
+     * @param asset      The Nexus asset
      * @param artifactId The expected artifact ID (used for path-based fallback)
      * @param version    The expected version (used for path-based fallback)
      * @return A two-element array {@code [extension, classifier]} where classifier
      *         may be {@code null}, or {@code null} if coordinates cannot be determined
      */
-    private String[] extractMaven2Coordinates(Map<?, ?> asset, String artifactId, String version) {
-        // Try maven2 metadata sub-map first (Nexus includes this for Maven format)
-        Object maven2Obj = asset.get("maven2");
-        if (maven2Obj instanceof Map<?, ?> maven2) {
-            Object extObj = maven2.get("extension");
-            if (extObj != null && !extObj.toString().isBlank()) {
-                Object clsObj = maven2.get("classifier");
-                String classifier = (clsObj != null && !clsObj.toString().isBlank()) ? clsObj.toString() : null;
-                return new String[]{ extObj.toString(), classifier };
-            }
+    private String[] extractMaven2Coordinates(NexusAsset asset, String artifactId, String version) {
+        // Try maven2 metadata first (Nexus includes this for Maven format)
+        NexusAsset.Maven2 maven2 = asset.maven2();
+        if (maven2 != null && maven2.extension() != null && !maven2.extension().isBlank()) {
+            String classifier = (maven2.classifier() != null && !maven2.classifier().isBlank())
+                    ? maven2.classifier() : null;
+            return new String[]{ maven2.extension(), classifier };
         }
 
         // Fall back to parsing the asset path
-        Object pathObj = asset.get("path");
-        if (pathObj == null) return null;
+        String path = asset.path();
+        if (path == null) return null;
 
-        String path = pathObj.toString();
         String fileName = path.contains("/") ? path.substring(path.lastIndexOf('/') + 1) : path;
 
         // Expected format: artifactId-version[-classifier].extension(s)
@@ -615,7 +884,7 @@ public class RcDownloadMojo extends AbstractStagingMojo {
     /**
      * Returns {@code true} if the given extension represents a sidecar file
      * (GPG signature or checksum) that must not be downloaded independently.
-     * These files are handled automatically by {@link #downloadArtifactAndSidecars}.
+     * These files are handled automatically by {@link #downloadProjectArtifacts}.
      *
      * @param extension The file extension to inspect
      * @return {@code true} if it is a known sidecar extension
@@ -629,58 +898,454 @@ public class RcDownloadMojo extends AbstractStagingMojo {
     }
 
     /**
-     * Downloads an artifact along with its signature and checksum files.
+     * Downloads the artifacts of a project along with their signature and
+     * checksum files.
+     * 
+     * The signature and checksum files are requested speculatively in the same
+     * batch as the artifacts, so that all of them are fetched concurrently
+     * instead of one round trip after another; those of missing artifacts are
+     * discarded.
      * 
-     * @param context The download context containing all necessary parameters
+     * In incremental mode, artifacts already staged with the content of the
+     * remote file are not downloaded again; only their missing signature and
+     * checksum files are.
+     * 
+     * @param artifacts The download contexts of the project's artifacts
      */
-    private void downloadArtifactAndSidecars(ArtifactDownloadContext context) {
+    private void downloadProjectArtifacts(List<ArtifactDownloadContext> artifacts) {
+        if (artifacts.isEmpty()) {
+            return;
+        }
+        Set<ArtifactDownloadContext> unchanged = this.incremental ? findUnchangedArtifacts(artifacts) : Set.of();
+
+        // Artifacts listed by Nexus are downloaded from their URL, the others
+        // and those whose direct download failed are resolved
+        List<ArtifactDownloadContext> remaining = this.nexusDirectDownload
+                ? downloadDirectly(artifacts, unchanged)
+                : artifacts;
+        if (!remaining.isEmpty()) {
+            resolveProjectArtifacts(remaining, unchanged);
+        }
+    }
 
-        // Download main artifact
-        boolean success = downloadArtifactWithResolver(context.remoteRepo, context.groupId, context.artifactId,
-                context.version, context.extension, context.classifier, context.targetDir);
+    /**
+     * Resolves artifacts with their signature and checksum files in one batch
+     * and stages them.
+     * 
+     * @param artifacts The download contexts of the artifacts
+     * @param unchanged The artifacts whose staged file is up to date
+     */
+    private void resolveProjectArtifacts(List<ArtifactDownloadContext> artifacts,
+            Set<ArtifactDownloadContext> unchanged) {
+        // Each artifact is followed by its sidecars in the batch
+        List<Artifact> batch = new ArrayList<>();
+        List<List<String>> sidecarExtensions = new ArrayList<>(artifacts.size());
+        for (ArtifactDownloadContext context : artifacts) {
+            List<String> extensions = sidecarExtensions(context.extension);
+            if (unchanged.contains(context)) {
+                extensions.removeIf(sidecarExtension -> stagedFile(context, sidecarExtension).isFile());
+            } else {
+                batch.add(toArtifact(context, context.extension));
+            }
+            sidecarExtensions.add(extensions);
+            for (String sidecarExtension : extensions) {
+                batch.add(toArtifact(context, sidecarExtension));
+            }
+        }
+        List<ArtifactResult> results = batch.isEmpty() ? List.of()
+                : resolveArtifacts(artifacts.get(0).remoteRepo, batch);
+
+        int index = 0;
+        for (int i = 0; i < artifacts.size(); i++) {
+            ArtifactDownloadContext context = artifacts.get(i);
+            List<String> extensions = sidecarExtensions.get(i);
+            boolean skipped = unchanged.contains(context);
+            ArtifactResult mainResult = skipped ? null : results.get(index++);
+            List<ArtifactResult> sidecarResults = results.subList(index, index + extensions.size());
+            index += extensions.size();
+
+            String coords = buildCoordinates(context.groupId, context.artifactId, context.version,
+                    context.extension, context.classifier);
+
+            // Download main artifact
+            if (skipped) {
+                getLog().info("Unchanged in staging directory, not downloaded again: " + coords);
+            } else if (!stageResolvedArtifact(mainResult, context, context.extension)) {
+                recordFailedDownload(context, coords);
+                continue;
+            }
+
+            // Stage the signature and checksum files found; they are optional
+            for (int j = 0; j < extensions.size(); j++) {
+                stageResolvedArtifact(sidecarResults.get(j), context, extensions.get(j));
+            }
+
+            // The resolver does not expose the bytes it transfers, so the
+            // digests are computed in one pass over the file just written
+            if (!skipped && !verifyStagedChecksums(context, digestStagedArtifact(context))) {
+                discardStagedArtifact(context, extensions);
+                recordFailedDownload(context, coords);
+                continue;
+            }
+
+            // Track successful download
+            successfulDownloads.add(coords);
+        }
+    }
+
+    /**
+     * Records an artifact that could not be downloaded as failed, and as a
+     * mandatory failure if the artifact is mandatory.
+     */
+    private void recordFailedDownload(ArtifactDownloadContext context, String coords) {
+        if (context.isMandatory) {
+            getLog().error("Failed to download mandatory artifact: " + coords);
+            failedDownloads.add(coords);
+            failedMandatoryDownloads.add(coords);
+        } else {
+            getLog().warn("Failed to download optional artifact: " + coords);
+            failedDownloads.add(coords);
+        }
+    }
 
-        String coords = buildCoordinates(context.groupId, context.artifactId, context.version,
-                context.extension, context.classifier);
+    /**
+     * Computes the digests of a staged artifact in a single pass and records
+     * them in the staging manifest.
+     * 
+     * @param context The download context of the artifact
+     * @return The digests by algorithm name, or an empty map if the file
+     *         cannot be read
+     */
+    private Map<String, String> digestStagedArtifact(ArtifactDownloadContext context) {
+        Path stagedFile = stagedFile(context, context.extension).toPath();
+        try {
+            Map<String, String> digests = StagingManifest.digest(stagedFile, this.digestAlgorithms);
+            this.stagingManifest.record(stagedFile, digests);
+            return digests;
+        } catch (IOException e) {
+            getLog().warn("Failed to compute the digests of " + stagedFile + ": " + e.getMessage());
+            return Map.of();
+        }
+    }
 
-        if (!success) {
-            if (context.isMandatory) {
-                getLog().error("Failed to download mandatory artifact: " + coords);
-                failedDownloads.add(coords);
-                failedMandatoryDownloads.add(coords);
+    /**
+     * Checks the staged checksum files of an artifact against the digests
+     * computed while downloading it.
+     * 
+     * @param context The download context of the artifact
+     * @param digests The digests of the staged artifact by algorithm name
+     * @return false if a checksum file does not match the artifact
+     */
+    private boolean verifyStagedChecksums(ArtifactDownloadContext context, Map<String, String> digests) {
+        boolean verified = true;
+        for (Map.Entry<String, String> algorithm : CHECKSUM_ALGORITHMS.entrySet()) {
+            String actual = digests.get(algorithm.getValue());
+            File checksumFile = stagedFile(context, context.extension + "." + algorithm.getKey());
+            if (actual == null || !checksumFile.isFile()) {
+                continue;
+            }
+            String expected = readChecksum(checksumFile);
+            if (expected != null && !expected.equalsIgnoreCase(actual)) {
+                getLog().error("Checksum mismatch for " + stagedFile(context, context.extension).getName() + ": "
+                        + checksumFile.getName() + " has " + expected + ", the downloaded file has " + actual);
+                verified = false;
+            }
+        }
+        return verified;
+    }
+
+    /**
+     * Removes a staged artifact and the given signature and checksum files,
+     * e.g. after a checksum mismatch, so that they are not bundled.
+     */
+    private void discardStagedArtifact(ArtifactDownloadContext context, Collection<String> sidecarExtensions) {
+        stagedFile(context, context.extension).delete();
+        this.stagingManifest.remove(stagedFile(context, context.extension).toPath());
+        for (String extension : sidecarExtensions) {
+            stagedFile(context, extension).delete();
+        }
+    }
+
+    /**
+     * Downloads artifacts listed by Nexus with their signature and checksum
+     * files straight from their download URLs into the staging directory, over
+     * the shared connection pool and without going through the local
+     * repository. All files of the project are downloaded concurrently.
+     * 
+     * @param artifacts The download contexts of the project's artifacts
+     * @param unchanged The artifacts whose staged file is up to date
+     * @return The artifacts without download URL or whose download failed,
+     *         to resolve instead
+     */
+    private List<ArtifactDownloadContext> downloadDirectly(List<ArtifactDownloadContext> artifacts,
+            Set<ArtifactDownloadContext> unchanged) {
+        List<ArtifactDownloadContext> remaining = new ArrayList<>();
+        List<ArtifactDownloadContext> direct = new ArrayList<>();
+        for (ArtifactDownloadContext context : artifacts) {
+            (context.downloadUrls.containsKey(context.extension) ? direct : remaining).add(context);
+        }
+        if (direct.isEmpty()) {
+            return remaining;
+        }
+        NexusClient nexusClient = buildNexusClient();
+
+        // Start the downloads of all files, then wait for them
+        Map<ArtifactDownloadContext, Map<String, CompletableFuture<Long>>> downloads = new LinkedHashMap<>();
+        Map<ArtifactDownloadContext, MessageDigest[]> digests = new HashMap<>();
+        for (ArtifactDownloadContext context : direct) {
+            boolean skipped = unchanged.contains(context);
+            Map<String, CompletableFuture<Long>> files = new LinkedHashMap<>();
+            List<String> extensions = new ArrayList<>();
+            if (!skipped) {
+                extensions.add(context.extension);
+            }
+            for (String sidecarExtension : sidecarExtensions(context.extension)) {
+                if (context.downloadUrls.containsKey(sidecarExtension)
+                        && !(skipped && stagedFile(context, sidecarExtension).isFile())) {
+                    extensions.add(sidecarExtension);
+                }
+            }
+            if (!context.targetDir.exists()) {
+                context.targetDir.mkdirs();
+            }
+            for (String extension : extensions) {
+                // The digests of the artifact are computed as it is written
+                MessageDigest[] fileDigests = new MessageDigest[0];
+                if (extension.equals(context.extension)) {
+                    fileDigests = StagingManifest.newDigests(this.digestAlgorithms);
+                    digests.put(context, fileDigests);
+                }
+                files.put(extension, nexusClient.downloadAssetAsync(context.downloadUrls.get(extension),
+                        stagedFile(context, extension).toPath(), fileDigests));
+            }
+            downloads.put(context, files);
+        }
+
+        for (Map.Entry<ArtifactDownloadContext, Map<String, CompletableFuture<Long>>> entry : downloads.entrySet()) {
+            ArtifactDownloadContext context = entry.getKey();
+            Map<String, CompletableFuture<Long>> files = entry.getValue();
+            Map<String, Exception> failures = new HashMap<>();
+            for (Map.Entry<String, CompletableFuture<Long>> file : files.entrySet()) {
+                String url = context.downloadUrls.get(file.getKey());
+                try {
+                    getLog().info("Downloaded from Nexus: " + url + " (" + file.getValue().get() + " B)");
+                } catch (ExecutionException e) {
+                    failures.put(file.getKey(), e.getCause() instanceof Exception cause ? cause : e);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failures.put(file.getKey(), e);
+                }
+            }
+
+            String coords = buildCoordinates(context.groupId, context.artifactId, context.version,
+                    context.extension, context.classifier);
+
+            if (unchanged.contains(context)) {
+                getLog().info("Unchanged in staging directory, not downloaded again: " + coords);
+            } else if (failures.containsKey(context.extension)) {
+                getLog().warn("Direct download of " + coords + " failed, resolving it instead: "
+                        + failures.get(context.extension).getMessage());
+                // The resolution stages the sidecars again, or none if it fails
+                for (String extension : files.keySet()) {
+                    stagedFile(context, extension).delete();
+                }
+                remaining.add(context);
+                continue;
             } else {
-                getLog().warn("Failed to download optional artifact: " + coords);
-                failedDownloads.add(coords);
+                Map<String, String> computed = StagingManifest.toHex(digests.get(context));
+                try {
+                    this.stagingManifest.record(stagedFile(context, context.extension).toPath(), computed);
+                } catch (IOException e) {
+                    getLog().warn("Failed to record the digests of " + coords + ": " + e.getMessage());
+                }
+                if (!verifyStagedChecksums(context, computed)) {
+                    discardStagedArtifact(context, files.keySet());
+                    recordFailedDownload(context, coords);
+                    continue;
+                }
+                getLog().info("Successfully downloaded and staged: " + coords + " -> "
+                        + stagedFile(context, context.extension).getName());
             }
+
+            // Track successful download
+            successfulDownloads.add(coords);
+
+            // Signature and checksum files are optional
+            failures.forEach((extension, cause) -> getLog().debug(
+                    "Failed to download " + context.downloadUrls.get(extension) + ": " + cause.getMessage()));
+        }
+        return remaining;
+    }
+
+    /**
+     * Returns the artifacts whose staged file has the checksum of the remote
+     * file. The checksum reported by Nexus is used when known, otherwise the
+     * remote .sha1 files are resolved in one batch. They are resolved into a
+     * temporary local repository: the copies kept in the local repository of
+     * the build from a previous run would match the staged files of that run
+     * even after the remote files changed, e.g. when a release candidate is
+     * staged again with the same version.
+     * 
+     * @param artifacts The download contexts of the project's artifacts
+     * @return The download contexts of the unchanged artifacts
+     */
+    private Set<ArtifactDownloadContext> findUnchangedArtifacts(List<ArtifactDownloadContext> artifacts) {
+        Map<ArtifactDownloadContext, String[]> expected = new HashMap<>();
+        List<ArtifactDownloadContext> lookups = new ArrayList<>();
+        for (ArtifactDownloadContext context : artifacts) {
+            if (!stagedFile(context, context.extension).isFile()) {
+                continue;
+            }
+            if (context.checksums.containsKey("sha1")) {
+                expected.put(context, new String[] { "SHA-1", context.checksums.get("sha1") });
+            } else if (context.checksums.containsKey("sha256")) {
+                expected.put(context, new String[] { "SHA-256", context.checksums.get("sha256") });
+            } else {
+                lookups.add(context);
+            }
+        }
+
+        if (!lookups.isEmpty()) {
+            List<Artifact> checksumFiles = new ArrayList<>(lookups.size());
+            for (ArtifactDownloadContext context : lookups) {
+                checksumFiles.add(toArtifact(context, context.extension + ".sha1"));
+            }
+            Path checksumRepository = null;
+            try {
+                checksumRepository = Files.createTempDirectory("central-staging-checksums");
+                List<ArtifactResult> results = resolveArtifacts(lookups.get(0).remoteRepo, checksumFiles,
+                        checksumRepository.toFile());
+                for (int i = 0; i < lookups.size(); i++) {
+                    String checksum = readChecksum(results.get(i));
+                    if (checksum != null) {
+                        expected.put(lookups.get(i), new String[] { "SHA-1", checksum });
+                    }
+                }
+            } catch (IOException e) {
+                // The artifacts are downloaded again
+                getLog().warn("Failed to create a directory for the remote checksums: " + e.getMessage());
+            } finally {
+                deleteDirectory(checksumRepository);
+            }
+        }
+
+        Set<ArtifactDownloadContext> unchanged = new HashSet<>();
+        for (Map.Entry<ArtifactDownloadContext, String[]> entry : expected.entrySet()) {
+            File stagedFile = stagedFile(entry.getKey(), entry.getKey().extension);
+            String algorithm = entry.getValue()[0];
+            try {
+                // Digests recorded for the current content of the file are
+                // used without reading it; others are recorded for rc-bundle
+                String actual = this.stagingManifest.digest(stagedFile.toPath(), algorithm);
+                if (actual == null) {
+                    List<String> algorithms = new ArrayList<>(this.digestAlgorithms);
+                    if (!algorithms.contains(algorithm)) {
+                        algorithms.add(algorithm);
+                    }
+                    Map<String, String> digests = StagingManifest.digest(stagedFile.toPath(), algorithms);
+                    this.stagingManifest.record(stagedFile.toPath(), digests);
+                    actual = digests.get(algorithm);
+                }
+                if (actual.equalsIgnoreCase(entry.getValue()[1])) {
+                    unchanged.add(entry.getKey());
+                } else {
+                    getLog().debug("Staged file differs from the remote file: " + stagedFile);
+                }
+            } catch (IOException e) {
+                getLog().debug("Failed to read staged file " + stagedFile + ": " + e.getMessage());
+            }
+        }
+        return unchanged;
+    }
+
+    /**
+     * Deletes a temporary directory and its content, logging failures.
+     *
+     * @param directory The directory, or null
+     */
+    private void deleteDirectory(Path directory) {
+        if (directory == null) {
             return;
         }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Collections.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException e) {
+            getLog().debug("Failed to delete temporary directory " + directory + ": " + e.getMessage());
+        }
+    }
 
-        // Track successful download
-        successfulDownloads.add(coords);
+    /**
+     * Reads the checksum from a resolved checksum file, which may be followed
+     * by the file name.
+     * 
+     * @param result The resolution result of the checksum file
+     * @return The checksum, or null if it was not resolved or cannot be read
+     */
+    private String readChecksum(ArtifactResult result) {
+        return result.isResolved() ? readChecksum(result.getArtifact().getFile()) : null;
+    }
 
-        // Download signature files if enabled
-        if (this.downloadSignatures) {
-            String sigExt = context.extension + ".asc";
-            downloadArtifactWithResolver(context.remoteRepo, context.groupId, context.artifactId,
-                    context.version, sigExt, context.classifier, context.targetDir);
+    /**
+     * Reads the checksum from a checksum file, which may be followed by the
+     * file name.
+     * 
+     * @param file The checksum file
+     * @return The checksum, or null if it cannot be read
+     */
+    private String readChecksum(File file) {
+        try {
+            String content = Files.readString(file.toPath(), StandardCharsets.US_ASCII).trim();
+            return content.isEmpty() ? null : content.split("\\s+")[0];
+        } catch (IOException e) {
+            getLog().debug("Failed to read checksum file " + file + ": " + e.getMessage());
+            return null;
         }
+    }
 
-        // Download checksum files if enabled
+    /**
+     * Returns the extensions of the signature and checksum files to download
+     * along with an artifact, as configured.
+     * 
+     * @param extension The extension of the artifact
+     * @return The sidecar extensions, e.g. jar.asc, jar.sha1
+     */
+    private List<String> sidecarExtensions(String extension) {
+        List<String> extensions = new ArrayList<>();
+        if (this.downloadSignatures) {
+            extensions.add(extension + ".asc");
+        }
         if (this.downloadChecksums) {
-            downloadArtifactWithResolver(context.remoteRepo, context.groupId, context.artifactId,
-                    context.version, context.extension + ".md5", context.classifier, context.targetDir);
-            downloadArtifactWithResolver(context.remoteRepo, context.groupId, context.artifactId,
-                    context.version, context.extension + ".sha1", context.classifier, context.targetDir);
+            extensions.add(extension + ".md5");
+            extensions.add(extension + ".sha1");
         }
-
         if (this.downloadChecksums256) {
-            downloadArtifactWithResolver(context.remoteRepo, context.groupId, context.artifactId,
-                    context.version, context.extension + ".sha256", context.classifier, context.targetDir);
+            extensions.add(extension + ".sha256");
         }
-
         if (this.downloadChecksums512) {
-            downloadArtifactWithResolver(context.remoteRepo, context.groupId, context.artifactId,
-                    context.version, context.extension + ".sha512", context.classifier, context.targetDir);
+            extensions.add(extension + ".sha512");
         }
+        return extensions;
+    }
+
+    /**
+     * Returns the file a download with the given extension is staged to.
+     */
+    private static File stagedFile(ArtifactDownloadContext context, String extension) {
+        String fileName = context.artifactId + "-" + context.version;
+        if (context.classifier != null && !context.classifier.isEmpty()) {
+            fileName += "-" + context.classifier;
+        }
+        return new File(context.targetDir, fileName + "." + extension);
+    }
+
+    /**
+     * Creates the resolver artifact of a download with the given extension.
+     */
+    private static Artifact toArtifact(ArtifactDownloadContext context, String extension) {
+        return new DefaultArtifact(context.groupId, context.artifactId, context.classifier, extension,
+                context.version);
     }
 
     /**
@@ -696,16 +1361,18 @@ public class RcDownloadMojo extends AbstractStagingMojo {
     }
 
     /**
-     * Downloads additional artifacts with custom classifier and extension combinations.
+     * Lists additional artifacts with custom classifier and extension combinations
+     * to download.
      * 
      * @param remoteRepo The remote repository
      * @param groupId    The group ID
      * @param artifactId The artifact ID
      * @param version    The version
      * @param targetDir  The target directory
+     * @param artifacts  The list the artifacts to download are added to
      */
-    private void downloadAdditionalClassifiers(RemoteRepository remoteRepo, String groupId, String artifactId,
-            String version, File targetDir) {
+    private void collectAdditionalClassifiers(RemoteRepository remoteRepo, String groupId, String artifactId,
+            String version, File targetDir, List<ArtifactDownloadContext> artifacts) {
         List<AdditionalClassifierEntry> entries = parseAdditionalClassifiers();
         
         if (entries.isEmpty()) {
@@ -720,7 +1387,7 @@ public class RcDownloadMojo extends AbstractStagingMojo {
             } else {
                 getLog().debug("Downloading additional artifact - extension: " + entry.extension);
             }
-            downloadArtifactAndSidecars(new ArtifactDownloadContext(
+            artifacts.add(new ArtifactDownloadContext(
                     remoteRepo, groupId, artifactId, version, entry.extension, entry.classifier, targetDir, false));
         }
     }
@@ -837,6 +1504,7 @@ public class RcDownloadMojo extends AbstractStagingMojo {
                         "         central.downloadChecksums=" + this.downloadChecksums + "\n" +
                         "         central.downloadChecksums256=" + this.downloadChecksums256 + "\n" +
                         "         central.downloadChecksums512=" + this.downloadChecksums512 + "\n" +
+                        "         central.incremental=" + this.incremental + "\n" +
                         "         central.downloadAdditionalClassifiers=" + 
                         (this.downloadAdditionalClassifiers != null ? this.downloadAdditionalClassifiers : "none") + "\n" +
                         "  =============== Output Configuration ===============\n" +
@@ -849,6 +1517,7 @@ public class RcDownloadMojo extends AbstractStagingMojo {
                         "         central.p2Metadata=" + this.p2Metadata + "\n" +
                         "  =============== Nexus Artifact Resolution ===============\n" +
                         "         central.nexusArtifactsResolution=" + this.nexusArtifactsResolution + "\n" +
+                        "         central.nexusDirectDownload=" + this.nexusDirectDownload + "\n" +
                         "         nexus.serverId=" + this.nexusServerId + "\n" +
                         "         nexus.apiUrl=" + (this.nexusApiUrl != null ? this.nexusApiUrl : "default") + "\n" +
                         "         nexus.repository=" + (this.nexusRepository != null ? this.nexusRepository : "all"));
@@ -16,8 +16,15 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugin.MojoFailureException;
-import org.eclipse.cbi.central.DeploymentConstants;
+import org.eclipse.cbi.central.Deployment;
+import org.eclipse.cbi.central.DeploymentState;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Mojo(name = "rc-drop", defaultPhase = LifecyclePhase.NONE)
 public class RcDropMojo extends AbstractCentralMojo {
@@ -51,11 +58,10 @@ public class RcDropMojo extends AbstractCentralMojo {
                 dropAllDeployments(removeFailedOnly, dryRun);
             } else if (deploymentId != null && !deploymentId.isEmpty()) {
                 if (removeFailedOnly) {
-                    Map<String, Object> status = client.getDeploymentStatus(deploymentId);
-                    Object state = status.get(DeploymentConstants.DEPLOYMENT_STATE);
-                    if (!DeploymentConstants.FAILED_STATE.equals(String.valueOf(state))) {
+                    DeploymentState state = client.getDeployment(deploymentId).deploymentState();
+                    if (state != DeploymentState.FAILED) {
                         getLog().info(
-                                "Deployment " + deploymentId + " is not in " + DeploymentConstants.FAILED_STATE
+                                "Deployment " + deploymentId + " is not in " + DeploymentState.FAILED
                                         + " state. Skipping drop.");
                         return;
                     }
@@ -69,14 +75,13 @@ public class RcDropMojo extends AbstractCentralMojo {
             } else {
                 // Drop the latest deployment if neither removeAll nor deploymentId is set
                 String namespace = project.getGroupId();
-                Map<String, Object> deploymentsResult = client.listDeployments(namespace, 0, 1, "createTimestamp",
-                        "desc");
-                Object deploymentsObj = deploymentsResult.get(DeploymentConstants.DEPLOYMENTS);
-                if (deploymentsObj instanceof java.util.List<?> deployments && !deployments.isEmpty()) {
-                    Map<?, ?> latestDep = (Map<?, ?>) deployments.get(0);
-                    String latestId = String.valueOf(latestDep.get(DeploymentConstants.DEPLOYMENT_ID));
-                    String state = String.valueOf(latestDep.get(DeploymentConstants.DEPLOYMENT_STATE));
-                    if (removeFailedOnly && !DeploymentConstants.FAILED_STATE.equals(state)) {
+                List<Deployment> deployments = client
+                        .listDeploymentPage(namespace, 0, 1, "createTimestamp", "desc").deployments();
+                if (!deployments.isEmpty()) {
+                    Deployment latestDep = deployments.get(0);
+                    String latestId = latestDep.deploymentId();
+                    DeploymentState state = latestDep.deploymentState();
+                    if (removeFailedOnly && state != DeploymentState.FAILED) {
                         getLog().info("Latest deployment " + latestId + " is not in FAILED state. Skipping drop.");
                         return;
                     }
@@ -94,6 +99,10 @@ public class RcDropMojo extends AbstractCentralMojo {
         } catch (Exception e) {
             getLog().error("Failed to drop deployment", e);
             throw new MojoFailureException("Failed to drop deployment", e);
+        } finally {
+            if (client != null) {
+                logHttpStatistics();
+            }
         }
     }
 
@@ -101,22 +110,36 @@ public class RcDropMojo extends AbstractCentralMojo {
      * Drops all deployments in the namespace. If onlyFailed is true, only drops
      * deployments in FAILED state.
      * If dryRun is true, only simulates the drop.
+     *
+     * The drop requests are sent concurrently; results are logged in listing
+     * order once all of them have completed.
      */
     private void dropAllDeployments(boolean onlyFailed, boolean dryRun) throws MojoFailureException {
         String namespace = project.getGroupId();
         try {
-            Map<String, Object> deploymentsResult = client.listDeployments(namespace, 0, 500, "createTimestamp",
-                    "desc");
-            Object deploymentsObj = deploymentsResult.get(DeploymentConstants.DEPLOYMENTS);
-            if (deploymentsObj instanceof java.util.List<?> deployments) {
-                for (Object depObj : deployments) {
-                    if (depObj instanceof Map<?, ?> dep &&
-                            (!onlyFailed || DeploymentConstants.FAILED_STATE
-                                    .equals(String.valueOf(dep.get(DeploymentConstants.DEPLOYMENT_STATE))))) {
-                        dropSingleDeployment(dep, dryRun);
-
+            // The whole listing is read before dropping, dropped deployments
+            // would otherwise shift the following pages
+            List<Deployment> deployments;
+            try (Stream<Deployment> listing = client.deployments(namespace)) {
+                deployments = listing.collect(Collectors.toList());
+            }
+            if (!deployments.isEmpty()) {
+                Map<Deployment, CompletableFuture<Map<String, Object>>> drops = new LinkedHashMap<>();
+                for (Deployment dep : deployments) {
+                    if (!onlyFailed || dep.deploymentState() == DeploymentState.FAILED) {
+                        drops.put(dep, dropSingleDeployment(dep, dryRun));
                     }
                 }
+                MojoFailureException failure = null;
+                for (Map.Entry<Deployment, CompletableFuture<Map<String, Object>>> drop : drops.entrySet()) {
+                    MojoFailureException error = logDropResult(drop.getKey(), drop.getValue());
+                    if (failure == null) {
+                        failure = error;
+                    }
+                }
+                if (failure != null) {
+                    throw failure;
+                }
             } else {
                 getLog().info("No deployments found to drop.");
             }
@@ -127,22 +150,39 @@ public class RcDropMojo extends AbstractCentralMojo {
     }
 
     /**
-     * Drops a single deployment and logs the result or any error. If dryRun is
-     * true, only simulates the drop.
+     * Starts dropping a single deployment. If dryRun is true, only simulates the
+     * drop and returns null.
      */
-    private void dropSingleDeployment(Map<?, ?> dep, boolean dryRun) throws MojoFailureException {
-        String id = String.valueOf(dep.get(DeploymentConstants.DEPLOYMENT_ID));
-        String state = String.valueOf(dep.get(DeploymentConstants.DEPLOYMENT_STATE));
+    private CompletableFuture<Map<String, Object>> dropSingleDeployment(Deployment dep, boolean dryRun) {
+        String id = dep.deploymentId();
+        DeploymentState state = dep.deploymentState();
         if (dryRun) {
             getLog().info("[DRY RUN] Would drop deployment " + id + " (state: " + state + ")");
-            return;
+            return null;
         }
+        return client.dropDeploymentAsync(id);
+    }
+
+    /**
+     * Waits for a drop started by {@link #dropSingleDeployment(Deployment, boolean)} and
+     * logs the result or any error.
+     *
+     * @return the failure to report, or null if the drop succeeded
+     */
+    private MojoFailureException logDropResult(Deployment dep, CompletableFuture<Map<String, Object>> drop) {
+        if (drop == null) {
+            return null;
+        }
+        String id = dep.deploymentId();
+        DeploymentState state = dep.deploymentState();
         try {
-            Map<String, Object> result = client.dropDeployment(id);
+            Map<String, Object> result = drop.join();
             getLog().info("Dropped deployment " + id + " (state: " + state + ") result: " + result);
-        } catch (Exception e) {
-            getLog().error("Failed to drop deployment " + id + " (state: " + state + ")", e);
-            throw new MojoFailureException("Failed to drop deployment " + id + " (state: " + state + ")", e);
+            return null;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            getLog().error("Failed to drop deployment " + id + " (state: " + state + ")", cause);
+            return new MojoFailureException("Failed to drop deployment " + id + " (state: " + state + ")", cause);
         }
     }
 }
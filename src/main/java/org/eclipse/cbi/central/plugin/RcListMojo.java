@@ -15,8 +15,11 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugin.MojoFailureException;
-import org.eclipse.cbi.central.DeploymentConstants;
-import java.util.Map;
+import org.eclipse.cbi.central.ComponentVersion;
+import org.eclipse.cbi.central.Deployment;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
 
 @Mojo(name = "rc-list", defaultPhase = LifecyclePhase.NONE, requiresProject = false)
 public class RcListMojo extends AbstractCentralMojo {
@@ -69,27 +72,24 @@ public class RcListMojo extends AbstractCentralMojo {
                         "The 'namespace' parameter is required when running without a Maven project. Use -Dcentral.namespace=<your-namespace>");
             }
 
-            Map<String, Object> result = client.listDeployments(effectiveNamespace, 0, 500, "createTimestamp", "desc");
-            Object deploymentsObj = result.get(DeploymentConstants.DEPLOYMENTS);
-            if (deploymentsObj instanceof java.util.List) {
-                java.util.List<?> deployments = (java.util.List<?>) deploymentsObj;
-                if (deployments.isEmpty()) {
-                    getLog().info("No deployments found.");
-                    return;
-                }
-                if (showAllDeployments) {
-                    for (Object depObj : deployments) {
-                        printDeployment(depObj);
-                    }
-                } else {
-                    printDeployment(deployments.get(0));
-                }
-            } else {
+            // Deployments are printed page by page as they are fetched
+            boolean found;
+            try (Stream<Deployment> deployments = client.deployments(effectiveNamespace)) {
+                Iterator<Deployment> it = showAllDeployments ? deployments.iterator()
+                        : deployments.limit(1).iterator();
+                found = it.hasNext();
+                it.forEachRemaining(this::printDeployment);
+            }
+            if (!found) {
                 getLog().info("No deployments found.");
             }
         } catch (Exception e) {
             getLog().error("Failed to list deployments", e);
             throw new MojoFailureException("Failed to list deployments", e);
+        } finally {
+            if (client != null) {
+                logHttpStatistics();
+            }
         }
     }
 
@@ -98,72 +98,52 @@ public class RcListMojo extends AbstractCentralMojo {
      * date,
      * and deployed component versions with their errors (if any).
      *
-     * @param depObj The deployment object to print (expected to be a Map).
+     * @param dep The deployment to print.
      */
-    private void printDeployment(Object depObj) {
-        if (!(depObj instanceof Map)) {
-            return;
-        }
-        Map<?, ?> dep = (Map<?, ?>) depObj;
-        Object deploymentId = dep.get(DeploymentConstants.DEPLOYMENT_ID);
-        Object deploymentState = dep.get(DeploymentConstants.DEPLOYMENT_STATE);
-        Object createTimestamp = dep.get(DeploymentConstants.CREATE_TIMESTAMP);
-        String dateStr = formatTimestamp(createTimestamp);
-        getLog().info("DeploymentId: " + deploymentId + ", State: " + deploymentState + ", Created: " + dateStr);
+    private void printDeployment(Deployment dep) {
+        String dateStr = formatTimestamp(dep.createTimestamp());
+        getLog().info("DeploymentId: " + dep.deploymentId() + ", State: " + dep.deploymentState() + ", Created: "
+                + dateStr);
         if (showArtifacts) {
-            Object componentsObj = dep.get(DeploymentConstants.DEPLOYED_COMPONENT_VERSIONS);
-            if (componentsObj instanceof java.util.List) {
-                printComponents((java.util.List<?>) componentsObj);
-            }
+            printComponents(dep.deployedComponentVersions());
         }
     }
 
     /**
-     * Formats a timestamp object to a human-readable date string.
+     * Formats an epoch milliseconds timestamp to a human-readable date string.
      */
-    private String formatTimestamp(Object timestampObj) {
-        if (timestampObj instanceof Number number) {
-            long ts = number.longValue();
-            java.time.Instant instant = java.time.Instant.ofEpochMilli(ts);
-            java.time.ZoneId zone = java.time.ZoneId.systemDefault();
-            java.time.format.DateTimeFormatter fmt = java.time.format.DateTimeFormatter
-                    .ofPattern("yyyy-MM-dd HH:mm:ss").withZone(zone);
-            return fmt.format(instant);
+    private String formatTimestamp(long ts) {
+        if (ts <= 0) {
+            return "";
         }
-        return "";
+        java.time.Instant instant = java.time.Instant.ofEpochMilli(ts);
+        java.time.ZoneId zone = java.time.ZoneId.systemDefault();
+        java.time.format.DateTimeFormatter fmt = java.time.format.DateTimeFormatter
+                .ofPattern("yyyy-MM-dd HH:mm:ss").withZone(zone);
+        return fmt.format(instant);
     }
 
     /**
      * Prints details of deployed components and their errors.
      */
-    private void printComponents(java.util.List<?> components) {
-        for (Object compObj : components) {
-            if (!(compObj instanceof Map)) {
-                continue;
-            }
-            Map<?, ?> comp = (Map<?, ?>) compObj;
-            Object purl = comp.get(DeploymentConstants.PURL);
-            Object errorsObj = comp.get(DeploymentConstants.ERRORS);
-            getLog().info("  Component: " + purl);
-            printErrors(errorsObj);
+    private void printComponents(List<ComponentVersion> components) {
+        for (ComponentVersion comp : components) {
+            getLog().info("  Component: " + comp.purl());
+            printErrors(comp.errors());
         }
     }
 
     /**
      * Prints errors for a component, if any.
      */
-    private void printErrors(Object errorsObj) {
-        if (errorsObj instanceof java.util.List<?> errors) {
-            if (errors.isEmpty()) {
-                getLog().info("    Errors: (none)");
-            } else {
-                getLog().info("    Errors:");
-                for (Object err : errors) {
-                    getLog().info("      - " + err);
-                }
-            }
-        } else {
+    private void printErrors(List<String> errors) {
+        if (errors.isEmpty()) {
             getLog().info("    Errors: (none)");
+        } else {
+            getLog().info("    Errors:");
+            for (String err : errors) {
+                getLog().info("      - " + err);
+            }
         }
     }
 }
@@ -15,8 +15,10 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugin.MojoFailureException;
-import org.eclipse.cbi.central.DeploymentConstants;
+import org.eclipse.cbi.central.Deployment;
+import org.eclipse.cbi.central.DeploymentState;
 import java.util.Map;
+import java.util.stream.Stream;
 
 @Mojo(name = "rc-publish", defaultPhase = LifecyclePhase.NONE)
 public class RcPublishMojo extends AbstractCentralMojo {
@@ -62,19 +64,18 @@ public class RcPublishMojo extends AbstractCentralMojo {
                 getLog().info("Using provided deploymentId: " + effectiveDeploymentId);
             }
             getLog().info("Checking deployment status for deploymentId: " + effectiveDeploymentId);
-            Map<String, Object> status = client.getDeploymentStatus(effectiveDeploymentId);
-            Object state = status.get(DeploymentConstants.DEPLOYMENT_STATE);
+            DeploymentState state = client.getDeployment(effectiveDeploymentId).deploymentState();
             getLog().info("Current deployment state: " + state);
-            if (isPublishableState(state)) {
-                if (DeploymentConstants.VALIDATED_STATE.equals(state.toString())) {
+            if (state.isPublishable()) {
+                if (state == DeploymentState.VALIDATED) {
                     getLog().info("Deployment is VALIDATED.");
-                } else if (DeploymentConstants.PUBLISHING_STATE.equals(state.toString())) {
+                } else if (state == DeploymentState.PUBLISHING) {
                     getLog().info("Deployment is already PUBLISHING.");
                 }
                 if (dryRun) {
                     getLog().info("[DRY RUN] Would publish deployment: " + effectiveDeploymentId);
                 } else {
-                    if (DeploymentConstants.PUBLISHING_STATE.equals(state.toString())) {
+                    if (state == DeploymentState.PUBLISHING) {
                         getLog().info("Deployment is already being published, no action needed.");
                     } else {
                         getLog().info("Publishing deployment...");
@@ -92,6 +93,10 @@ public class RcPublishMojo extends AbstractCentralMojo {
         } catch (Exception e) {
             getLog().error("Failed to publish deployment", e);
             throw new MojoFailureException("Failed to publish deployment", e);
+        } finally {
+            if (client != null) {
+                logHttpStatistics();
+            }
         }
     }
 
@@ -101,43 +106,18 @@ public class RcPublishMojo extends AbstractCentralMojo {
     private String findLatestValidatedDeploymentId(String groupId, String artifactId, String version) {
         try {
             String namespace = groupId;
-            Map<String, Object> deploymentsResult = client.listDeployments(namespace, 0, 500, "createTimestamp",
-                    "desc");
-            Object deploymentsObj = deploymentsResult.get(DeploymentConstants.DEPLOYMENTS);
-            String gavPurlPrefix = String.format("pkg:maven/%s/%s@%s", groupId, artifactId, version);
-            if (deploymentsObj instanceof java.util.List<?> deployments) {
-                for (Object depObj : deployments) {
-                    if (depObj instanceof Map<?, ?> dep) {
-                        Object depState = dep.get(DeploymentConstants.DEPLOYMENT_STATE);
-                        if (!DeploymentConstants.VALIDATED_STATE.equals(depState.toString()))
-                            continue;
-                        Object componentsObj = dep.get(DeploymentConstants.DEPLOYED_COMPONENT_VERSIONS);
-                        if (componentsObj instanceof java.util.List<?> components) {
-                            for (Object compObj : components) {
-                                if (compObj instanceof Map<?, ?> comp) {
-                                    Object purlObj = comp.get(DeploymentConstants.PURL);
-                                    if (purlObj != null && purlObj.toString().startsWith(gavPurlPrefix)) {
-                                        return dep.get(DeploymentConstants.DEPLOYMENT_ID).toString();
-                                    }
-                                }
-                            }
-                        }
-                    }
-                }
+            // Pages are fetched lazily, the search stops at the first match
+            try (Stream<Deployment> deployments = client.deployments(namespace)) {
+                return deployments
+                        .filter(dep -> dep.deploymentState() == DeploymentState.VALIDATED)
+                        .filter(dep -> dep.contains(groupId, artifactId, version))
+                        .map(Deployment::deploymentId)
+                        .findFirst()
+                        .orElse(null);
             }
         } catch (Exception e) {
             getLog().error("Error searching for latest VALIDATED deployment", e);
         }
         return null;
     }
-
-    /**
-     * Checks if the deployment state is publishable (VALIDATED or already
-     * PUBLISHING).
-     */
-    private boolean isPublishableState(Object stateObj) {
-        return stateObj != null &&
-                (DeploymentConstants.VALIDATED_STATE.equals(stateObj.toString()) ||
-                        DeploymentConstants.PUBLISHING_STATE.equals(stateObj.toString()));
-    }
 }
@@ -69,6 +69,10 @@ public class RcStatusMojo extends AbstractCentralMojo {
         } catch (Exception e) {
             getLog().error("Failed to list publications", e);
             throw new MojoFailureException("Failed to list publications", e);
+        } finally {
+            if (client != null) {
+                logHttpStatistics();
+            }
         }
     }
 }
@@ -19,6 +19,8 @@ import org.apache.maven.plugin.MojoFailureException;
 
 import org.eclipse.aether.RepositorySystem;
 
+import java.util.concurrent.Future;
+
 /**
  * Maven goal for complete artifact synchronization workflow to Maven Central.
  * 
@@ -97,6 +99,19 @@ public class RcSyncMojo extends AbstractStagingMojo {
         String[] gav = resolveEffectiveGav();
         showConfig(gav);
 
+        // The upload only starts after bundling, warm its connection meanwhile
+        Future<?> warmup = this.dryRun ? null : preconnect(this.centralApiUrl);
+        try {
+            synchronize(gav);
+        } finally {
+            if (warmup != null) {
+                warmup.cancel(false);
+            }
+        }
+    }
+
+    private void synchronize(String[] gav) throws MojoFailureException {
+
         if (this.dryRun) {
             getLog().info("");
             getLog().info("=== DRY-RUN MODE ACTIVATED ===");
@@ -121,6 +136,7 @@ public class RcSyncMojo extends AbstractStagingMojo {
             getLog().info("All operations completed successfully in dry-run mode.");
             getLog().info("To execute these operations for real, run the same command without -Dcentral.dryRun=true");
             getLog().info("");
+            logHttpStatistics();
             return;
         }
         performUpload();
@@ -128,6 +144,7 @@ public class RcSyncMojo extends AbstractStagingMojo {
         if (published && this.syncDropAfterPublish) {
             runDropStandby();
         }
+        logHttpStatistics();
     }
 
     // ================================================================================================
@@ -168,6 +185,7 @@ public class RcSyncMojo extends AbstractStagingMojo {
         // AbstractCentralMojo inherited properties
         bundleMojo.serverId = this.serverId;
         bundleMojo.centralApiUrl = this.centralApiUrl;
+        copyHttpConfiguration(bundleMojo);
         bundleMojo.project = this.project;
         bundleMojo.settings = this.settings;
 
@@ -195,11 +213,16 @@ public class RcSyncMojo extends AbstractStagingMojo {
         bundleMojo.downloadChecksums = this.downloadChecksums;
         bundleMojo.downloadChecksums256 = this.downloadChecksums256;
         bundleMojo.downloadChecksums512 = this.downloadChecksums512;
+        bundleMojo.stagingLinks = this.stagingLinks;
+        bundleMojo.incremental = this.incremental;
         bundleMojo.namespaceFilter = this.namespaceFilter;
         bundleMojo.failOnMissingSourcesJavadoc = this.failOnMissingSourcesJavadoc;
         bundleMojo.failOnMissingSignatureFile = this.failOnMissingSignatureFile;
         bundleMojo.failOnMissingChecksum = this.failOnMissingChecksum;
         bundleMojo.showMavenGoalOutput = this.showMavenGoalOutput;
+        bundleMojo.threads = this.threads;
+        bundleMojo.virtualThreads = this.virtualThreads;
+        bundleMojo.downloadThreads = this.downloadThreads;
         bundleMojo.reactorProjects = this.reactorProjects;
         bundleMojo.session = this.session;
         bundleMojo.invoker = this.invoker;
@@ -208,6 +231,7 @@ public class RcSyncMojo extends AbstractStagingMojo {
 
         // Nexus resolution
         bundleMojo.nexusArtifactsResolution = this.nexusArtifactsResolution;
+        bundleMojo.nexusDirectDownload = this.nexusDirectDownload;
         bundleMojo.nexusApiUrl = this.nexusApiUrl;
         bundleMojo.nexusRepository = this.nexusRepository;
         bundleMojo.nexusServerId = this.nexusServerId;
@@ -297,6 +321,7 @@ public class RcSyncMojo extends AbstractStagingMojo {
         uploadMojo.settings = this.settings;
         uploadMojo.serverId = this.serverId;
         uploadMojo.centralApiUrl = this.centralApiUrl;
+        copyHttpConfiguration(uploadMojo);
         uploadMojo.bearerCreate = this.bearerCreate;
         uploadMojo.maxWaitTime = this.maxWaitTime;
         uploadMojo.maxWaitTimePublishing = this.maxWaitTimePublishing;
@@ -334,6 +359,7 @@ public class RcSyncMojo extends AbstractStagingMojo {
         publishMojo.settings = this.settings;
         publishMojo.serverId = this.serverId;
         publishMojo.centralApiUrl = this.centralApiUrl;
+        copyHttpConfiguration(publishMojo);
         publishMojo.bearerCreate = this.bearerCreate;
         publishMojo.settingsDecrypter = this.settingsDecrypter;
         try {
@@ -359,6 +385,7 @@ public class RcSyncMojo extends AbstractStagingMojo {
         dropMojo.settings = this.settings;
         dropMojo.serverId = this.serverId;
         dropMojo.centralApiUrl = this.centralApiUrl;
+        copyHttpConfiguration(dropMojo);
         dropMojo.removeAll = this.removeAll;
         dropMojo.removeFailedOnly = this.removeFailedOnly;
         dropMojo.dryRun = this.dryRun;
@@ -15,9 +15,12 @@ package org.eclipse.cbi.central.plugin;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugin.MojoFailureException;
+import org.eclipse.cbi.central.Deployment;
 import org.eclipse.cbi.central.DeploymentConstants;
+import org.eclipse.cbi.central.DeploymentState;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -56,6 +59,10 @@ public class RcUploadMojo extends AbstractStagingMojo {
         } catch (Exception e) {
             getLog().error("Failed to upload to Central Portal", e);
             throw new MojoFailureException("Failed to upload to Central Portal", e);
+        } finally {
+            if (client != null) {
+                logHttpStatistics();
+            }
         }
     }
 
@@ -131,12 +138,11 @@ public class RcUploadMojo extends AbstractStagingMojo {
         boolean isAutomatic = automaticPublishing;
 
         while (System.currentTimeMillis() - startTime < maxWaitMillis) {
-            Map<String, Object> status = client.getDeploymentStatus(deploymentId);
-            String state = String.valueOf(status.get(DeploymentConstants.DEPLOYMENT_STATE));
+            Deployment status = client.getDeployment(deploymentId);
+            DeploymentState state = status.deploymentState();
 
-            if (DeploymentConstants.VALIDATED_STATE.equals(state)) {
-                Object errors = status.get(DeploymentConstants.ERRORS);
-                if (hasNoErrors(errors)) {
+            if (state == DeploymentState.VALIDATED) {
+                if (status.hasNoErrors()) {
                     if (isAutomatic) {
                         getLog().info("Deployment validated! Automatic publishing is in progress...");
                         if (waitForCompletion) {
@@ -158,11 +164,11 @@ public class RcUploadMojo extends AbstractStagingMojo {
                     String errorMessage = formatDeploymentErrors(status);
                     throw new MojoFailureException("Deployment validated but has errors: " + errorMessage);
                 }
-            } else if (DeploymentConstants.PUBLISHED_STATE.equals(state)) {
+            } else if (state == DeploymentState.PUBLISHED) {
                 getLog().info("Upload and publishing to Maven Central Portal successful!");
                 logDeploymentStatus(status);
                 return;
-            } else if (DeploymentConstants.PUBLISHING_STATE.equals(state)) {
+            } else if (state == DeploymentState.PUBLISHING) {
                 if (waitForCompletion) {
                     getLog().info("Deployment is being uploaded to Maven Central: " + state);
                     try {
@@ -176,8 +182,7 @@ public class RcUploadMojo extends AbstractStagingMojo {
                     logDeploymentStatus(status);
                     return;
                 }
-            } else if (DeploymentConstants.PENDING_STATE.equals(state)
-                    || DeploymentConstants.VALIDATING_STATE.equals(state)) {
+            } else if (state == DeploymentState.PENDING || state == DeploymentState.VALIDATING) {
                 getLog().info("Upload is being processed: " + state);
                 try {
                     TimeUnit.SECONDS.sleep(pollInterval);
@@ -185,7 +190,7 @@ public class RcUploadMojo extends AbstractStagingMojo {
                     Thread.currentThread().interrupt();
                     throw new MojoFailureException("Wait for validation was interrupted", e);
                 }
-            } else if (DeploymentConstants.FAILED_STATE.equals(state)) {
+            } else if (state == DeploymentState.FAILED) {
                 String errorMessage = formatDeploymentErrors(status);
                 throw new MojoFailureException("Upload failed: " + errorMessage);
             } else {
@@ -206,14 +211,14 @@ public class RcUploadMojo extends AbstractStagingMojo {
         long maxWaitMillis = maxWaitTimePublishing * 1000L;
 
         while (System.currentTimeMillis() - startTime < maxWaitMillis) {
-            Map<String, Object> status = client.getDeploymentStatus(deploymentId);
-            String state = String.valueOf(status.get(DeploymentConstants.DEPLOYMENT_STATE));
+            Deployment status = client.getDeployment(deploymentId);
+            DeploymentState state = status.deploymentState();
 
-            if (DeploymentConstants.PUBLISHED_STATE.equals(state)) {
+            if (state == DeploymentState.PUBLISHED) {
                 getLog().info("Upload and publishing to Maven Central Portal successful!");
                 logDeploymentStatus(status);
                 return;
-            } else if (DeploymentConstants.FAILED_STATE.equals(state)) {
+            } else if (state == DeploymentState.FAILED) {
                 String errorMessage = formatDeploymentErrors(status);
                 throw new MojoFailureException("Publishing failed: " + errorMessage);
             } else {
@@ -234,87 +239,46 @@ public class RcUploadMojo extends AbstractStagingMojo {
     /**
      * Formats deployment errors in a human-readable way.
      */
-    private String formatDeploymentErrors(Map<String, Object> status) {
+    private String formatDeploymentErrors(Deployment status) {
         StringBuilder errorMessage = new StringBuilder();
 
         // Add deployment info
-        Object deploymentId = status.get(DeploymentConstants.DEPLOYMENT_ID);
-        Object deploymentName = status.get("deploymentName");
-        if (deploymentId != null) {
-            errorMessage.append("\nDeployment ID: ").append(deploymentId);
+        if (status.deploymentId() != null) {
+            errorMessage.append("\nDeployment ID: ").append(status.deploymentId());
         }
-        if (deploymentName != null) {
-            errorMessage.append("\nDeployment Name: ").append(deploymentName);
+        if (status.deploymentName() != null) {
+            errorMessage.append("\nDeployment Name: ").append(status.deploymentName());
         }
 
         // Format errors
-        Object errorsObj = status.get(DeploymentConstants.ERRORS);
-        if (errorsObj instanceof Map<?, ?> errors) {
+        if (!status.errors().isEmpty()) {
             errorMessage.append("\nErrors:");
-            for (Map.Entry<?, ?> entry : errors.entrySet()) {
-                String component = entry.getKey().toString();
-                Object componentErrors = entry.getValue();
-
-                errorMessage.append("\n  Component: ").append(component);
-                if (componentErrors instanceof java.util.List<?> errorList) {
-                    for (Object error : errorList) {
-                        errorMessage.append("\n    - ").append(error.toString());
-                    }
-                } else {
-                    errorMessage.append("\n    - ").append(componentErrors.toString());
+            for (Map.Entry<String, List<String>> entry : status.errors().entrySet()) {
+                errorMessage.append("\n  Component: ").append(entry.getKey());
+                for (String error : entry.getValue()) {
+                    errorMessage.append("\n    - ").append(error);
                 }
             }
-        } else if (errorsObj != null) {
-            errorMessage.append("\nErrors: ").append(errorsObj.toString());
         }
 
         return errorMessage.toString();
     }
 
-    /**
-     * Checks if there are no errors in the deployment.
-     * Handles various error formats: null, empty List, empty Map.
-     */
-    private boolean hasNoErrors(Object errors) {
-        if (errors == null) {
-            return true;
-        }
-
-        if (errors instanceof java.util.List<?> list) {
-            return list.isEmpty();
-        }
-
-        if (errors instanceof Map<?, ?> map) {
-            return map.isEmpty();
-        }
-
-        // If it's a string, check if it's empty or just whitespace
-        String errorStr = errors.toString().trim();
-        return errorStr.isEmpty() || "{}".equals(errorStr) || "[]".equals(errorStr);
-    }
-
     /**
      * Logs deployment status in a human-readable format.
      */
-    private void logDeploymentStatus(Map<String, Object> status) {
-        Object deploymentId = status.get(DeploymentConstants.DEPLOYMENT_ID);
-        Object deploymentName = status.get("deploymentName");
-        Object deploymentState = status.get(DeploymentConstants.DEPLOYMENT_STATE);
-        Object purls = status.get("purls");
-
+    private void logDeploymentStatus(Deployment status) {
         getLog().info("Deployment Details:");
-        if (deploymentId != null) {
-            getLog().info("  ID: " + deploymentId);
-        }
-        if (deploymentName != null) {
-            getLog().info("  Name: " + deploymentName);
+        if (status.deploymentId() != null) {
+            getLog().info("  ID: " + status.deploymentId());
         }
-        if (deploymentState != null) {
-            getLog().info("  State: " + deploymentState);
+        if (status.deploymentName() != null) {
+            getLog().info("  Name: " + status.deploymentName());
         }
-        if (purls instanceof java.util.List<?> purlList && !purlList.isEmpty()) {
+        getLog().info("  State: " + status.deploymentState());
+        if (!status.purls().isEmpty()) {
             getLog().info("  Components:");
-            for (Object purl : purlList) {
+            for (String purl : status.purls()) {
                 getLog().info("    - " + purl);
             }
         }
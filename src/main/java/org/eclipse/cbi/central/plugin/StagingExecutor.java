@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central.plugin;
+
+import org.apache.maven.plugin.MojoFailureException;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the blocking I/O fan-outs of the staging goals (downloads, checksums,
+ * API calls) concurrently.
+ *
+ * On a Java 21+ runtime each task gets its own virtual thread, so hundreds of
+ * blocking calls do not tie up platform threads; the number of tasks running
+ * at once is still bounded to protect file descriptors and servers. On older
+ * runtimes tasks run on a bounded pool of platform threads. The plugin is
+ * compiled for Java 17, so virtual threads are looked up at runtime.
+ */
+final class StagingExecutor implements AutoCloseable {
+
+    /**
+     * A unit of blocking work.
+     */
+    @FunctionalInterface
+    interface Task {
+        void run() throws Exception;
+    }
+
+    // Tasks running at once on virtual threads
+    private static final int VIRTUAL_THREAD_CONCURRENCY = 256;
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorFactory();
+
+    private final ExecutorService executor;
+    private final Semaphore running;
+    private final boolean virtual;
+
+    private StagingExecutor(ExecutorService executor, int concurrency, boolean virtual) {
+        this.executor = executor;
+        this.running = new Semaphore(concurrency);
+        this.virtual = virtual;
+    }
+
+    /**
+     * Creates an executor.
+     *
+     * @param threads        Size of the platform thread pool
+     * @param virtualThreads Whether to use virtual threads when the runtime
+     *                       supports them
+     * @return The executor, to be closed after use
+     */
+    static StagingExecutor create(int threads, boolean virtualThreads) {
+        return create(threads, virtualThreads, VIRTUAL_THREAD_CONCURRENCY);
+    }
+
+    /**
+     * Creates an executor running at most a given number of tasks at once,
+     * e.g. to bound the requests sent to a server.
+     *
+     * @param threads        Size of the platform thread pool
+     * @param virtualThreads Whether to use virtual threads when the runtime
+     *                       supports them
+     * @param concurrency    Tasks running at once on virtual threads
+     * @return The executor, to be closed after use
+     */
+    static StagingExecutor create(int threads, boolean virtualThreads, int concurrency) {
+        if (virtualThreads && NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                ExecutorService executor = (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+                return new StagingExecutor(executor, Math.max(1, concurrency), true);
+            } catch (ReflectiveOperationException e) {
+                // Fall back to platform threads
+            }
+        }
+        int size = Math.max(1, threads);
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "central-staging-worker-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new StagingExecutor(executor, size, false);
+    }
+
+    /**
+     * Returns true if virtual threads are available on this runtime.
+     */
+    static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Returns true if tasks run on virtual threads.
+     */
+    boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * Runs the tasks and waits for all of them, even after a failure, so that
+     * no task is still writing files when the caller continues. After the first
+     * failure or an interrupt of the caller, the tasks not started yet are
+     * skipped, so only the running ones are waited for.
+     *
+     * @param tasks The tasks
+     * @throws MojoFailureException the first failure of a task, as thrown if it
+     *                              was a MojoFailureException
+     */
+    void runAll(List<Task> tasks) throws MojoFailureException {
+        if (tasks.size() == 1) {
+            run(tasks.get(0));
+            return;
+        }
+        AtomicBoolean aborted = new AtomicBoolean();
+        List<Future<?>> futures = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            futures.add(executor.submit(() -> {
+                running.acquire();
+                try {
+                    // Skipped rather than cancelled, so that waiting for its
+                    // future still waits for a task that already started
+                    if (!aborted.get()) {
+                        task.run();
+                    }
+                } catch (Throwable e) {
+                    aborted.set(true);
+                    throw e;
+                } finally {
+                    running.release();
+                }
+                return null;
+            }));
+        }
+        Throwable failure = null;
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            boolean done = false;
+            while (!done) {
+                try {
+                    future.get();
+                    done = true;
+                } catch (ExecutionException e) {
+                    done = true;
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                } catch (InterruptedException e) {
+                    // Keep waiting on the same task: tasks must not outlive
+                    // this call, the interrupt is restored at the end
+                    aborted.set(true);
+                    interrupted = true;
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure instanceof MojoFailureException mfe) {
+            throw mfe;
+        } else if (failure != null) {
+            throw new MojoFailureException("Concurrent task failed: " + failure.getMessage(), failure);
+        }
+    }
+
+    private static void run(Task task) throws MojoFailureException {
+        try {
+            task.run();
+        } catch (MojoFailureException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new MojoFailureException("Task failed: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static Method findVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central.plugin;
+
+import org.apache.maven.plugin.logging.Log;
+import org.eclipse.cbi.central.NexusClient;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Places files resolved in the local Maven repository into the staging
+ * directory without writing their bytes a second time when possible.
+ *
+ * A file is hard linked when the local repository and the staging directory
+ * are on the same file system. Otherwise it is transferred with
+ * {@link FileChannel#transferTo}, which copies inside the kernel and, on
+ * recent runtimes and file systems such as Btrfs or XFS, shares the blocks
+ * as a reflink. A plain copy is the last resort.
+ *
+ * Staged files must not be modified in place: a hard link shares its
+ * content with the local repository. Files are therefore always replaced by
+ * removing the staged file first, here and with {@link #write(Path, byte[])},
+ * which does not affect the other link.
+ */
+final class StagingLinker {
+
+    /**
+     * How a file was staged.
+     */
+    enum Method {
+        HARDLINK, TRANSFER, COPY
+    }
+
+    private final boolean links;
+
+    // Cleared after the first failed hard link, e.g. across file systems
+    private volatile boolean hardlinks = true;
+
+    private final Counter linked = new Counter();
+    private final Counter transferred = new Counter();
+    private final Counter copied = new Counter();
+
+    /**
+     * Creates a linker.
+     *
+     * @param links Whether to try hard links and in-kernel transfers, or only
+     *              copy files
+     */
+    StagingLinker(boolean links) {
+        this.links = links;
+    }
+
+    /**
+     * Stages a file, replacing the target if it exists.
+     *
+     * @param source The file in the local repository
+     * @param target The file in the staging directory
+     * @return How the file was staged
+     * @throws IOException if the file cannot be staged
+     */
+    Method stage(Path source, Path target) throws IOException {
+        long size = Files.size(source);
+        long start = System.nanoTime();
+        if (links && hardlinks) {
+            try {
+                Files.deleteIfExists(target);
+                Files.createLink(target, source);
+                linked.add(size, System.nanoTime() - start);
+                return Method.HARDLINK;
+            } catch (IOException | UnsupportedOperationException e) {
+                hardlinks = false;
+                start = System.nanoTime();
+            }
+        }
+        if (links) {
+            try {
+                // The target may be a hard link of a previous run; truncating
+                // it would empty the file in the local repository
+                Files.deleteIfExists(target);
+                transfer(source, target, size);
+                transferred.add(size, System.nanoTime() - start);
+                return Method.TRANSFER;
+            } catch (IOException e) {
+                start = System.nanoTime();
+            }
+        }
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        copied.add(size, System.nanoTime() - start);
+        return Method.COPY;
+    }
+
+    private static void transfer(Path source, Path target, long size) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE,
+                        StandardOpenOption.CREATE_NEW)) {
+            long position = 0;
+            while (position < size) {
+                long count = in.transferTo(position, size - position, out);
+                if (count <= 0) {
+                    throw new IOException("Transfer of " + source + " stopped at " + position + " of " + size
+                            + " bytes");
+                }
+                position += count;
+            }
+        }
+    }
+
+    /**
+     * Writes a file of the staging directory, such as a checksum file. The
+     * content is written to a temporary file that replaces the target, so that
+     * a target hard linked to the local repository is not written through.
+     *
+     * @param target  The file in the staging directory
+     * @param content The content of the file
+     * @throws IOException if the file cannot be written
+     */
+    static void write(Path target, byte[] content) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), "." + target.getFileName(),
+                NexusClient.PARTIAL_FILE_SUFFIX);
+        try {
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Returns true if a file is the temporary file of a download or of
+     * {@link #write(Path, byte[])}, which is only left behind when a goal was
+     * killed and must never be bundled.
+     *
+     * @param file The file
+     * @return true for a temporary file
+     */
+    static boolean isPartial(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(".") && name.endsWith(NexusClient.PARTIAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Deletes the temporary files left in the staging directory by a goal that
+     * was killed.
+     *
+     * @param stagingDir The staging directory
+     * @param log        The log
+     * @throws IOException if the directory cannot be walked or a file deleted
+     */
+    static void deletePartialFiles(Path stagingDir, Log log) throws IOException {
+        if (!Files.isDirectory(stagingDir)) {
+            return;
+        }
+        List<Path> partials;
+        try (Stream<Path> files = Files.walk(stagingDir)) {
+            partials = files.filter(file -> Files.isRegularFile(file) && isPartial(file)).toList();
+        }
+        for (Path partial : partials) {
+            Files.deleteIfExists(partial);
+        }
+        if (!partials.isEmpty()) {
+            log.info("Deleted " + partials.size() + " partial file(s) left by an interrupted run");
+        }
+    }
+
+    /**
+     * Logs how the files were staged, the bytes that hard links did not write
+     * again and an estimate of the time saved.
+     *
+     * The time saved by hard links is estimated from the throughput of the
+     * copies of the same run, so it is only reported when some files were
+     * copied.
+     *
+     * @param log The log
+     */
+    void logSummary(Log log) {
+        long files = linked.files.sum() + transferred.files.sum() + copied.files.sum();
+        if (files == 0) {
+            return;
+        }
+        log.info("Staging: " + files + " file(s) placed in "
+                + toMillis(linked.nanos.sum() + transferred.nanos.sum() + copied.nanos.sum()) + " ms");
+        log.info("  Hard linked:          " + linked.describe());
+        log.info("  Transferred (kernel): " + transferred.describe());
+        log.info("  Copied:               " + copied.describe());
+
+        log.info("  Bytes not copied:     " + linked.bytes.sum());
+        long copiedBytes = copied.bytes.sum() + transferred.bytes.sum();
+        long copiedNanos = copied.nanos.sum() + transferred.nanos.sum();
+        if (linked.bytes.sum() > 0 && copiedBytes > 0 && copiedNanos > 0) {
+            long estimated = (long) (linked.bytes.sum() * ((double) copiedNanos / copiedBytes))
+                    - linked.nanos.sum();
+            log.info("  Estimated time saved by hard links: " + toMillis(Math.max(0, estimated)) + " ms");
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    private static final class Counter {
+        final LongAdder files = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+
+        void add(long size, long elapsed) {
+            files.increment();
+            bytes.add(size);
+            nanos.add(elapsed);
+        }
+
+        String describe() {
+            return files.sum() + " file(s), " + bytes.sum() + " B in " + toMillis(nanos.sum()) + " ms";
+        }
+    }
+}
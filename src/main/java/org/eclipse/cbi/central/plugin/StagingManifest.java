@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central.plugin;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.codec.binary.Hex;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Digests of the files of a staging directory, computed while they are
+ * downloaded so that checksum files can be written later without reading the
+ * files again.
+ *
+ * The manifest is stored next to the staging directory, so that it is not
+ * part of the bundle, and shared by rc-download and rc-bundle whether they
+ * run in the same build or not. An entry is only used while the size and
+ * modification time of its file are unchanged.
+ */
+final class StagingManifest {
+
+    /**
+     * Digests of a staged file.
+     *
+     * @param size         The file size when the digests were computed
+     * @param lastModified The modification time when the digests were computed
+     * @param digests      Hexadecimal digests by algorithm name (MD5, SHA-1,
+     *                     SHA-256, SHA-512)
+     */
+    record Entry(long size, long lastModified, Map<String, String> digests) {
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path stagingDir;
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private StagingManifest(Path stagingDir) {
+        this.stagingDir = stagingDir.toAbsolutePath().normalize();
+        this.file = this.stagingDir.resolveSibling(this.stagingDir.getFileName() + "-digests.json");
+    }
+
+    /**
+     * Loads the manifest of a staging directory, or creates an empty one if it
+     * does not exist or cannot be read.
+     *
+     * @param stagingDir The staging directory
+     * @return The manifest
+     */
+    static StagingManifest load(File stagingDir) {
+        StagingManifest manifest = new StagingManifest(stagingDir.toPath());
+        if (Files.isRegularFile(manifest.file)) {
+            try {
+                manifest.entries.putAll(MAPPER.readValue(manifest.file.toFile(),
+                        new TypeReference<Map<String, Entry>>() {
+                        }));
+            } catch (IOException e) {
+                // Digests are computed again from the files
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Returns the file the manifest is stored in.
+     */
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * Records the digests of a staged file, in addition to those already known
+     * for its current content.
+     *
+     * @param stagedFile The staged file
+     * @param digests    Hexadecimal digests by algorithm name
+     * @throws IOException if the file cannot be read
+     */
+    void record(Path stagedFile, Map<String, String> digests) throws IOException {
+        long size = Files.size(stagedFile);
+        long lastModified = Files.getLastModifiedTime(stagedFile).toMillis();
+        entries.compute(key(stagedFile), (key, previous) -> {
+            Map<String, String> merged = new TreeMap<>();
+            if (previous != null && previous.size() == size && previous.lastModified() == lastModified) {
+                merged.putAll(previous.digests());
+            }
+            merged.putAll(digests);
+            return new Entry(size, lastModified, merged);
+        });
+    }
+
+    /**
+     * Forgets the digests of a staged file, e.g. after it was removed.
+     *
+     * @param stagedFile The staged file
+     */
+    void remove(Path stagedFile) {
+        entries.remove(key(stagedFile));
+    }
+
+    /**
+     * Returns the digest of a staged file if it was recorded for its current
+     * content.
+     *
+     * @param stagedFile The staged file
+     * @param algorithm  The algorithm name, e.g. SHA-1
+     * @return The hexadecimal digest, or null if unknown
+     */
+    String digest(Path stagedFile, String algorithm) {
+        Entry entry = entries.get(key(stagedFile));
+        if (entry == null || !entry.digests().containsKey(algorithm)) {
+            return null;
+        }
+        try {
+            if (Files.size(stagedFile) != entry.size()
+                    || Files.getLastModifiedTime(stagedFile).toMillis() != entry.lastModified()) {
+                return null;
+            }
+        } catch (IOException e) {
+            return null;
+        }
+        return entry.digests().get(algorithm);
+    }
+
+    /**
+     * Writes the manifest, replacing the previous one atomically.
+     *
+     * @throws IOException if the manifest cannot be written
+     */
+    void save() throws IOException {
+        Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), new TreeMap<>(entries));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private String key(Path stagedFile) {
+        return stagingDir.relativize(stagedFile.toAbsolutePath().normalize()).toString().replace(File.separatorChar,
+                '/');
+    }
+
+    /**
+     * Creates the digests of the given algorithms, to be updated with the
+     * content of a file as it is written or read.
+     *
+     * @param algorithms Algorithm names, e.g. MD5, SHA-1
+     * @return The digests, in the order of the algorithms
+     */
+    static MessageDigest[] newDigests(Collection<String> algorithms) {
+        MessageDigest[] digests = new MessageDigest[algorithms.size()];
+        int i = 0;
+        for (String algorithm : algorithms) {
+            try {
+                digests[i++] = MessageDigest.getInstance(algorithm);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalArgumentException("Unsupported hash algorithm: " + algorithm, e);
+            }
+        }
+        return digests;
+    }
+
+    /**
+     * Returns the hexadecimal values of completed digests by algorithm name.
+     */
+    static Map<String, String> toHex(MessageDigest... digests) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (MessageDigest digest : digests) {
+            values.put(digest.getAlgorithm(), Hex.encodeHexString(digest.digest()));
+        }
+        return values;
+    }
+
+    /**
+     * Computes several digests of a file in a single pass.
+     *
+     * @param file       The file
+     * @param algorithms Algorithm names, e.g. MD5, SHA-1
+     * @return Hexadecimal digests by algorithm name
+     * @throws IOException if the file cannot be read
+     */
+    static Map<String, String> digest(Path file, List<String> algorithms) throws IOException {
+        MessageDigest[] digests = newDigests(algorithms);
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                for (MessageDigest digest : digests) {
+                    digest.update(buffer, 0, read);
+                }
+            }
+        }
+        return toHex(digests);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import org.eclipse.cbi.central.emulator.CentralPortalEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Smoke tests of {@link CentralPortalClient} against the
+ * {@link CentralPortalEmulator}.
+ */
+class CentralPortalClientTest {
+
+    private static final String TOKEN = "test-token";
+
+    @TempDir
+    Path tempDir;
+
+    private CentralPortalEmulator emulator;
+    private String url;
+    private Path bundle;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Each test is a build of its own for the shared registry
+        HttpClientRegistry.getInstance().beginSession(new Object());
+        emulator = new CentralPortalEmulator();
+        emulator.setStateDurations(20, 50, 50);
+        url = emulator.start(0);
+        bundle = writeBundle(tempDir.resolve("bundle.zip"), "org/example", "demo", "1.0");
+    }
+
+    @AfterEach
+    void tearDown() {
+        emulator.close();
+    }
+
+    @Test
+    void uploadThenPublish() throws Exception {
+        CentralPortalClient client = client(ClientSettings.DEFAULT);
+
+        String deploymentId = client.uploadBundle(bundle, "demo", DeploymentConstants.PUBLISHING_TYPE_USER_MANAGED);
+        awaitState(client, deploymentId, DeploymentState.VALIDATED);
+        assertEquals(false, client.checkPublished("org.example", "demo", "1.0").get("published"));
+
+        client.publishDeployment(deploymentId);
+        awaitState(client, deploymentId, DeploymentState.PUBLISHED);
+        assertEquals(true, client.checkPublished("org.example", "demo", "1.0").get("published"));
+    }
+
+    @Test
+    void retriesInjectedErrors() throws Exception {
+        CentralPortalClient client = client(new ClientSettings(null, new RetryPolicy(10, 1, 10), null, null, 0, 0));
+        List<String> deploymentIds = upload(client, 40);
+
+        emulator.setErrorRate(0.2, 503);
+        for (String deploymentId : deploymentIds) {
+            assertEquals(deploymentId, client.getDeploymentStatus(deploymentId).get("deploymentId"));
+        }
+        assertTrue(emulator.getInjectedErrorCount() > 0, "no error injected");
+    }
+
+    @Test
+    void hedgesSlowStatusChecks() throws Exception {
+        CentralPortalClient client = client(
+                new ClientSettings(null, RetryPolicy.NONE, new HedgingPolicy(50, 1, 10), null, 0, 0));
+        List<String> deploymentIds = upload(client, 60);
+
+        emulator.setLatency(0, 150);
+        emulator.resetCounters();
+        for (String deploymentId : deploymentIds) {
+            assertEquals(deploymentId, client.getDeploymentStatus(deploymentId).get("deploymentId"));
+        }
+        assertTrue(emulator.getRequestCount("POST /status") > deploymentIds.size(),
+                "no hedge sent: " + emulator.getRequestCount("POST /status") + " requests");
+    }
+
+    @Test
+    void coalescesConcurrentStatusChecks() throws Exception {
+        CentralPortalClient client = client(ClientSettings.DEFAULT);
+        String deploymentId = client.uploadBundle(bundle, "demo", DeploymentConstants.PUBLISHING_TYPE_USER_MANAGED);
+
+        emulator.setLatency(200, 200);
+        emulator.resetCounters();
+        List<CompletableFuture<?>> checks = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            checks.add(client.getDeploymentStatusAsync(deploymentId));
+        }
+        CompletableFuture.allOf(checks.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        assertEquals(1, emulator.getRequestCount("POST /status"));
+    }
+
+    private CentralPortalClient client(ClientSettings settings) {
+        return HttpClientRegistry.getInstance().centralPortalClient(TOKEN, url, 5, 10, 10, settings);
+    }
+
+    private List<String> upload(CentralPortalClient client, int count) throws IOException {
+        List<String> deploymentIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            deploymentIds.add(client.uploadBundle(bundle, "demo-" + i,
+                    DeploymentConstants.PUBLISHING_TYPE_USER_MANAGED));
+        }
+        return deploymentIds;
+    }
+
+    private static void awaitState(CentralPortalClient client, String deploymentId, DeploymentState expected)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        DeploymentState state = null;
+        while (System.currentTimeMillis() < deadline) {
+            state = client.getDeployment(deploymentId).deploymentState();
+            if (state == expected) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("Deployment " + deploymentId + " is " + state + ", expected " + expected);
+    }
+
+    /**
+     * Writes a bundle holding the POM and JAR of a component.
+     */
+    static Path writeBundle(Path file, String groupPath, String artifactId, String version) throws IOException {
+        String base = groupPath + "/" + artifactId + "/" + version + "/" + artifactId + "-" + version;
+        String pom = "<project><modelVersion>4.0.0</modelVersion><groupId>" + groupPath.replace('/', '.')
+                + "</groupId><artifactId>" + artifactId + "</artifactId><version>" + version
+                + "</version></project>";
+        try (OutputStream out = Files.newOutputStream(file); ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry(base + ".pom"));
+            zip.write(pom.getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry(base + ".jar"));
+            zip.write(new byte[1024]);
+        }
+        return file;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central;
+
+import org.eclipse.cbi.central.emulator.NexusEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Smoke tests of {@link NexusClient} against the {@link NexusEmulator}.
+ */
+class NexusClientTest {
+
+    private NexusEmulator emulator;
+    private NexusClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Each test is a build of its own for the shared registry
+        HttpClientRegistry.getInstance().beginSession(new Object());
+        emulator = new NexusEmulator();
+        emulator.setPageSize(50);
+        emulator.generate("releases", "org.example", 120, "1.0", 64);
+        emulator.generate("releases", "org.other", 10, "1.0", 64);
+        String url = emulator.start(0);
+        client = HttpClientRegistry.getInstance().nexusClient("user", "pass", url, ClientSettings.DEFAULT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emulator.close();
+    }
+
+    @Test
+    void searchAllFollowsContinuationTokens() {
+        for (boolean prefetch : new boolean[] { false, true }) {
+            emulator.resetCounters();
+            List<String> ids;
+            try (Stream<NexusComponent> result = client.searchAll("releases", "org.example", null, "1.0",
+                    prefetch)) {
+                ids = result.map(NexusComponent::id).toList();
+            }
+            assertEquals(120, ids.size());
+            assertEquals(120, ids.stream().distinct().count());
+            assertEquals(3, emulator.getRequestCount("GET /search"));
+        }
+    }
+
+    @Test
+    void searchAllStopsWhenClosed() {
+        emulator.resetCounters();
+        try (Stream<NexusComponent> result = client.searchAll("releases", "org.example", null, "1.0", false)) {
+            assertEquals(10, result.limit(10).count());
+        }
+        assertEquals(1, emulator.getRequestCount("GET /search"));
+    }
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central.emulator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.eclipse.cbi.central.DeploymentConstants;
+import org.eclipse.cbi.central.DeploymentState;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Local stand-in for the Central Publisher API, for offline benchmarks and
+ * integration checks of {@link org.eclipse.cbi.central.CentralPortalClient}.
+ *
+ * Implements {@code /upload}, {@code /status}, {@code /deployment/{id}}
+ * (publish and drop), {@code /deployments/files} and {@code /published}.
+ * Uploaded bundles are unpacked to find their components. Deployments follow
+ * the Central Portal life cycle as time passes: PENDING, VALIDATING, then
+ * VALIDATED (or PUBLISHING right away with the AUTOMATIC publishing type),
+ * PUBLISHING once published and finally PUBLISHED. A bundle without POM, or a
+ * configurable share of random bundles, ends in FAILED with validation errors.
+ *
+ * Part of the test sources, not of the plugin. Can be run standalone with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.eclipse.cbi.central.emulator.CentralPortalEmulator
+ * -Dexec.args="[port [minLatencyMillis maxLatencyMillis [errorRate]]]"}
+ */
+public class CentralPortalEmulator extends EmulatorServer {
+
+    private static final String BASE_PATH = "/api/v1/publisher";
+
+    private final Map<String, StagedDeployment> deployments = new ConcurrentHashMap<>();
+    private final Set<String> published = ConcurrentHashMap.newKeySet();
+
+    private volatile long pendingMillis = 100;
+    private volatile long validatingMillis = 500;
+    private volatile long publishingMillis = 1000;
+    private volatile double validationFailureRate;
+
+    /**
+     * Creates an emulator serving the Central Publisher API below
+     * {@value #BASE_PATH}.
+     */
+    public CentralPortalEmulator() {
+        super("central", BASE_PATH);
+    }
+
+    /**
+     * Sets how long new deployments stay in each transient state.
+     *
+     * @param pendingMillis    Time in PENDING, in milliseconds
+     * @param validatingMillis Time in VALIDATING, in milliseconds
+     * @param publishingMillis Time in PUBLISHING, in milliseconds
+     */
+    public void setStateDurations(long pendingMillis, long validatingMillis, long publishingMillis) {
+        this.pendingMillis = pendingMillis;
+        this.validatingMillis = validatingMillis;
+        this.publishingMillis = publishingMillis;
+    }
+
+    /**
+     * Sets the share of valid bundles that fail validation anyway.
+     *
+     * @param rate Share of failed validations, between 0 and 1
+     */
+    public void setValidationFailureRate(double rate) {
+        this.validationFailureRate = Math.max(0, Math.min(1, rate));
+    }
+
+    /**
+     * Marks a component version as already published in Central.
+     *
+     * @param namespace The namespace (groupId)
+     * @param name      The name (artifactId)
+     * @param version   The version
+     */
+    public void addPublished(String namespace, String name, String version) {
+        published.add(purl(namespace, name, version));
+    }
+
+    /**
+     * Returns the current state of a deployment, or null if unknown or
+     * dropped.
+     *
+     * @param deploymentId The deployment ID
+     */
+    public DeploymentState getDeploymentState(String deploymentId) {
+        StagedDeployment deployment = deployments.get(deploymentId);
+        return deployment != null ? deployment.state(System.currentTimeMillis()) : null;
+    }
+
+    @Override
+    protected Response handle(Request request) throws IOException {
+        String path = request.path();
+        String method = request.method();
+        if (path.equals("/upload") && method.equals("POST")) {
+            return upload(request);
+        } else if (path.equals("/status") && method.equals("POST")) {
+            StagedDeployment deployment = deployments.get(request.query().getOrDefault("id", ""));
+            return deployment != null ? Response.json(200, deployment.status(System.currentTimeMillis()))
+                    : Response.text(404, "Deployment not found");
+        } else if (path.startsWith("/deployment/")) {
+            return deployment(method, path.substring("/deployment/".length()));
+        } else if (path.equals("/deployments/files") && method.equals("POST")) {
+            return list(MAPPER.readTree(request.body()));
+        } else if (path.equals("/published") && method.equals("GET")) {
+            Map<String, String> query = request.query();
+            String purl = purl(query.get("namespace"), query.get("name"), query.get("version"));
+            return Response.json(200, Map.of("published", isPublished(purl)));
+        }
+        return Response.text(404, "No such endpoint: " + method + " " + path);
+    }
+
+    private Response upload(Request request) {
+        byte[] bundle = multipartFile(request.header("Content-Type"), request.body());
+        if (bundle == null) {
+            return Response.text(400, "Missing bundle file");
+        }
+        List<String> componentPaths;
+        try {
+            componentPaths = componentPaths(bundle);
+        } catch (IOException e) {
+            return Response.text(400, "Invalid bundle: " + e.getMessage());
+        }
+        String publishingType = request.query().getOrDefault("publishingType",
+                DeploymentConstants.PUBLISHING_TYPE_USER_MANAGED);
+        Map<String, List<String>> errors = new LinkedHashMap<>();
+        if (componentPaths.isEmpty()) {
+            errors.put("bundle", List.of("No POM file found in the bundle"));
+        } else if (validationFailureRate > 0 && ThreadLocalRandom.current().nextDouble() < validationFailureRate) {
+            errors.put(toPurl(componentPaths.get(0)), List.of("Missing signature for file: "
+                    + componentPaths.get(0) + ".asc"));
+        }
+        StagedDeployment deployment = new StagedDeployment(UUID.randomUUID().toString(),
+                request.query().getOrDefault("name", "bundle"),
+                DeploymentConstants.PUBLISHING_TYPE_AUTOMATIC.equals(publishingType), componentPaths, errors);
+        deployments.put(deployment.id, deployment);
+        return Response.text(201, deployment.id);
+    }
+
+    private Response deployment(String method, String id) {
+        StagedDeployment deployment = deployments.get(id);
+        if (deployment == null) {
+            return Response.text(404, "Deployment not found");
+        }
+        long now = System.currentTimeMillis();
+        synchronized (deployment) {
+            DeploymentState state = deployment.state(now);
+            if (method.equals("POST")) {
+                if (state != DeploymentState.VALIDATED) {
+                    return Response.text(400, "Deployment is in state " + state + ", not VALIDATED");
+                }
+                deployment.publishRequestedAt = now;
+                return Response.empty(204);
+            } else if (method.equals("DELETE")) {
+                if (state != DeploymentState.VALIDATED && state != DeploymentState.FAILED) {
+                    return Response.text(400, "Deployment is in state " + state + ", not VALIDATED or FAILED");
+                }
+                deployments.remove(id);
+                return Response.empty(204);
+            }
+        }
+        return Response.text(405, "Method not allowed: " + method);
+    }
+
+    private Response list(JsonNode query) throws IOException {
+        int page = query.path("page").asInt(0);
+        int size = Math.max(1, query.path("size").asInt(20));
+        String pathStarting = query.path("pathStarting").asText("");
+        Comparator<StagedDeployment> order = Comparator.comparingLong(deployment -> deployment.createdAt);
+        if ("desc".equalsIgnoreCase(query.path("sortDirection").asText("desc"))) {
+            order = order.reversed();
+        }
+        List<StagedDeployment> matching = deployments.values().stream()
+                .filter(deployment -> deployment.matches(pathStarting))
+                .sorted(order)
+                .toList();
+        long now = System.currentTimeMillis();
+        List<Map<String, Object>> content = new ArrayList<>();
+        for (int i = page * size; i < Math.min(matching.size(), (page + 1) * size); i++) {
+            content.add(matching.get(i).listing(now));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put(DeploymentConstants.DEPLOYMENTS, content);
+        result.put("page", page);
+        result.put("pageSize", size);
+        result.put("pageCount", (matching.size() + size - 1) / size);
+        result.put("totalResultCount", matching.size());
+        return Response.json(200, result);
+    }
+
+    private boolean isPublished(String purl) {
+        if (published.contains(purl)) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        for (StagedDeployment deployment : deployments.values()) {
+            if (deployment.state(now) == DeploymentState.PUBLISHED && deployment.purls().contains(purl)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extracts the first file of a multipart/form-data body.
+     */
+    private static byte[] multipartFile(String contentType, byte[] body) {
+        int index = contentType != null ? contentType.indexOf("boundary=") : -1;
+        if (index < 0) {
+            return null;
+        }
+        String boundary = contentType.substring(index + "boundary=".length()).replace("\"", "");
+        byte[] delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        byte[] headersEnd = "\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+        int start = indexOf(body, headersEnd, 0);
+        if (start < 0) {
+            return null;
+        }
+        start += headersEnd.length;
+        int end = indexOf(body, delimiter, start);
+        if (end < 0) {
+            return null;
+        }
+        byte[] file = new byte[end - start];
+        System.arraycopy(body, start, file, 0, file.length);
+        return file;
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern, int from) {
+        outer:
+        for (int i = from; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Lists the component directories (groupId/artifactId/version) of the POM
+     * files of a bundle.
+     */
+    private static List<String> componentPaths(byte[] bundle) throws IOException {
+        Set<String> paths = new LinkedHashSet<>();
+        boolean entries = false;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bundle))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries = true;
+                String name = entry.getName();
+                int slash = name.lastIndexOf('/');
+                if (name.endsWith(".pom") && slash > 0 && name.substring(0, slash).split("/").length >= 3) {
+                    paths.add(name.substring(0, slash));
+                }
+            }
+        }
+        if (!entries) {
+            throw new IOException("not a zip file");
+        }
+        return new ArrayList<>(paths);
+    }
+
+    private static String toPurl(String componentPath) {
+        String[] segments = componentPath.split("/");
+        int n = segments.length;
+        return purl(String.join(".", List.of(segments).subList(0, n - 2)), segments[n - 2], segments[n - 1]);
+    }
+
+    private static String purl(String namespace, String name, String version) {
+        return "pkg:maven/" + namespace + "/" + name + "@" + version;
+    }
+
+    /**
+     * A deployment, whose state is derived from the time elapsed since the
+     * upload and since the publish request.
+     */
+    private final class StagedDeployment {
+
+        final String id;
+        final String name;
+        final boolean automatic;
+        final long createdAt = System.currentTimeMillis();
+        final List<String> componentPaths;
+        final Map<String, List<String>> errors;
+
+        // Durations at upload time, later configuration changes do not apply
+        final long validatedAt;
+        final long publishing;
+
+        // Guarded by this
+        long publishRequestedAt = -1;
+
+        StagedDeployment(String id, String name, boolean automatic, List<String> componentPaths,
+                Map<String, List<String>> errors) {
+            this.id = id;
+            this.name = name;
+            this.automatic = automatic;
+            this.componentPaths = componentPaths;
+            this.errors = errors;
+            this.validatedAt = createdAt + pendingMillis + validatingMillis;
+            this.publishing = publishingMillis;
+        }
+
+        synchronized DeploymentState state(long now) {
+            if (now < createdAt + pendingMillis) {
+                return DeploymentState.PENDING;
+            } else if (now < validatedAt) {
+                return DeploymentState.VALIDATING;
+            } else if (!errors.isEmpty()) {
+                return DeploymentState.FAILED;
+            }
+            long publishAt = automatic ? validatedAt : publishRequestedAt;
+            if (publishAt < 0) {
+                return DeploymentState.VALIDATED;
+            }
+            return now < publishAt + publishing ? DeploymentState.PUBLISHING : DeploymentState.PUBLISHED;
+        }
+
+        List<String> purls() {
+            return componentPaths.stream().map(CentralPortalEmulator::toPurl).toList();
+        }
+
+        boolean matches(String namespace) {
+            if (namespace.isEmpty() || name.startsWith(namespace)) {
+                return true;
+            }
+            return purls().stream().anyMatch(purl -> purl.startsWith("pkg:maven/" + namespace));
+        }
+
+        Map<String, Object> status(long now) {
+            DeploymentState state = state(now);
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put(DeploymentConstants.DEPLOYMENT_ID, id);
+            status.put("deploymentName", name);
+            status.put(DeploymentConstants.DEPLOYMENT_STATE, state.name());
+            status.put("purls", purls());
+            if (state == DeploymentState.FAILED) {
+                status.put(DeploymentConstants.ERRORS, errors);
+            }
+            return status;
+        }
+
+        Map<String, Object> listing(long now) {
+            DeploymentState state = state(now);
+            List<Map<String, Object>> components = new ArrayList<>();
+            for (String path : componentPaths) {
+                String purl = toPurl(path);
+                Map<String, Object> component = new LinkedHashMap<>();
+                String[] segments = path.split("/");
+                component.put("name", segments[segments.length - 2]);
+                component.put("path", path);
+                component.put(DeploymentConstants.PURL, purl);
+                component.put(DeploymentConstants.ERRORS,
+                        state == DeploymentState.FAILED ? errors.getOrDefault(purl, List.of()) : List.of());
+                components.add(component);
+            }
+            Map<String, Object> listing = new LinkedHashMap<>();
+            listing.put(DeploymentConstants.DEPLOYMENT_ID, id);
+            listing.put("deploymentName", name);
+            listing.put(DeploymentConstants.DEPLOYMENT_STATE, state.name());
+            listing.put(DeploymentConstants.CREATE_TIMESTAMP, createdAt);
+            listing.put(DeploymentConstants.DEPLOYED_COMPONENT_VERSIONS, components);
+            if (state == DeploymentState.FAILED) {
+                listing.put(DeploymentConstants.ERRORS, errors);
+            }
+            return listing;
+        }
+    }
+
+    /**
+     * Runs the emulator until the process is stopped, printing the counters on
+     * exit.
+     *
+     * @param args Optional port, latency range in milliseconds and error rate
+     * @throws Exception if the server cannot start
+     */
+    public static void main(String[] args) throws Exception {
+        CentralPortalEmulator emulator = new CentralPortalEmulator();
+        if (args.length >= 3) {
+            emulator.setLatency(Long.parseLong(args[1]), Long.parseLong(args[2]));
+        }
+        if (args.length >= 4) {
+            emulator.setErrorRate(Double.parseDouble(args[3]), 503);
+        }
+        String url = emulator.start(args.length >= 1 ? Integer.parseInt(args[0]) : 0);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> emulator.statistics().forEach(System.out::println)));
+        System.out.println("Central Portal emulator listening on " + url);
+        Thread.currentThread().join();
+    }
+}
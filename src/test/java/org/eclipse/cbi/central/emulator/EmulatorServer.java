@@ -0,0 +1,463 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central.emulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base of the local stand-ins for the repository APIs, serving HTTP on the
+ * loopback interface.
+ *
+ * Every request is delayed by a random latency within the configured range,
+ * and a configurable share of requests is answered with an error status
+ * instead of being processed, so that timeouts, retries, hedging and circuit
+ * breakers can be exercised reproducibly without network access. Response
+ * bodies can be throttled to a bandwidth. JSON responses carry an
+ * {@code ETag} and are answered with 304 when revalidated. Requests, injected
+ * errors and transferred bytes are counted per endpoint.
+ */
+public abstract class EmulatorServer implements AutoCloseable {
+
+    /**
+     * A request received by the emulator.
+     *
+     * @param method  The HTTP method
+     * @param path    The path below the API base path, starting with a slash
+     * @param query   The decoded query parameters
+     * @param headers The request headers
+     * @param body    The request body, empty if none
+     */
+    protected record Request(String method, String path, Map<String, String> query, Headers headers, byte[] body) {
+
+        /**
+         * Returns a header value, or null.
+         */
+        public String header(String name) {
+            return headers.getFirst(name);
+        }
+    }
+
+    /**
+     * A response sent by the emulator.
+     *
+     * @param status      The HTTP status
+     * @param contentType The content type, or null without a body
+     * @param body        The response body, empty if none
+     */
+    protected record Response(int status, String contentType, byte[] body) {
+
+        /**
+         * Creates a JSON response.
+         */
+        public static Response json(int status, Object value) throws IOException {
+            return new Response(status, "application/json", MAPPER.writeValueAsBytes(value));
+        }
+
+        /**
+         * Creates a plain text response.
+         */
+        public static Response text(int status, String text) {
+            return new Response(status, "text/plain", text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Creates a response without body.
+         */
+        public static Response empty(int status) {
+            return new Response(status, null, new byte[0]);
+        }
+    }
+
+    /**
+     * Mapper used to write and read JSON documents.
+     */
+    protected static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final int WRITE_CHUNK = 16 * 1024;
+
+    static {
+        // Headers and body are written separately; without TCP_NODELAY the body
+        // waits for the delayed ACK of the headers, adding 40 ms per response
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final String name;
+    private final String basePath;
+
+    private volatile long minLatencyMillis;
+    private volatile long maxLatencyMillis;
+    private volatile double errorRate;
+    private volatile int errorStatus = 503;
+    private volatile long bytesPerSecond;
+
+    private final Map<String, Counters> endpoints = new ConcurrentHashMap<>();
+    private volatile long startedAt;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * Creates an emulator.
+     *
+     * @param name     Name used in statistics and thread names
+     * @param basePath Path of the API below the server root, e.g. "/api/v1"
+     */
+    protected EmulatorServer(String name, String basePath) {
+        this.name = name;
+        this.basePath = basePath;
+    }
+
+    /**
+     * Starts serving on the loopback interface.
+     *
+     * @param port The port, 0 for any free port
+     * @return The API base URL to configure in the client
+     * @throws IOException if the port cannot be bound
+     */
+    public synchronized String start(int port) throws IOException {
+        if (server != null) {
+            throw new IllegalStateException(name + " emulator already started");
+        }
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, name + "-emulator-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        server.createContext("/", this::serve);
+        server.start();
+        startedAt = System.nanoTime();
+        return getBaseUrl();
+    }
+
+    /**
+     * Returns the API base URL.
+     */
+    public synchronized String getBaseUrl() {
+        return getServerUrl() + basePath;
+    }
+
+    /**
+     * Returns the URL of the server root, without trailing slash.
+     */
+    public synchronized String getServerUrl() {
+        if (server == null) {
+            throw new IllegalStateException(name + " emulator not started");
+        }
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * Stops the server immediately.
+     */
+    @Override
+    public synchronized void close() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    /**
+     * Sets the latency added to every response.
+     *
+     * @param minMillis Minimum latency in milliseconds
+     * @param maxMillis Maximum latency in milliseconds
+     */
+    public void setLatency(long minMillis, long maxMillis) {
+        this.minLatencyMillis = Math.max(0, minMillis);
+        this.maxLatencyMillis = Math.max(this.minLatencyMillis, maxMillis);
+    }
+
+    /**
+     * Sets the share of requests answered with an error instead of being
+     * processed.
+     *
+     * @param rate   Share of failed requests, between 0 and 1
+     * @param status The HTTP status of the injected errors, e.g. 503
+     */
+    public void setErrorRate(double rate, int status) {
+        this.errorRate = Math.max(0, Math.min(1, rate));
+        this.errorStatus = status;
+    }
+
+    /**
+     * Limits the transfer rate of each response body, as seen by a client on a
+     * slow link.
+     *
+     * @param bytesPerSecond Bytes per second per response, 0 for no limit
+     */
+    public void setBandwidth(long bytesPerSecond) {
+        this.bytesPerSecond = Math.max(0, bytesPerSecond);
+    }
+
+    /**
+     * Resets the counters.
+     */
+    public void resetCounters() {
+        endpoints.clear();
+        startedAt = System.nanoTime();
+    }
+
+    /**
+     * Returns the number of requests received so far.
+     */
+    public long getRequestCount() {
+        long count = 0;
+        for (Counters counters : endpoints.values()) {
+            count += counters.requests.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of requests of an endpoint, e.g. "POST /status".
+     */
+    public long getRequestCount(String endpoint) {
+        Counters counters = endpoints.get(endpoint);
+        return counters != null ? counters.requests.sum() : 0;
+    }
+
+    /**
+     * Returns the number of injected errors so far.
+     */
+    public long getInjectedErrorCount() {
+        long count = 0;
+        for (Counters counters : endpoints.values()) {
+            count += counters.injected.sum();
+        }
+        return count;
+    }
+
+    /**
+     * Returns human readable counters: overall throughput, then requests,
+     * injected errors and bytes per endpoint.
+     */
+    public List<String> statistics() {
+        List<String> lines = new ArrayList<>();
+        double seconds = Math.max(1e-9, (System.nanoTime() - startedAt) / 1e9);
+        long total = getRequestCount();
+        lines.add(String.format("%s emulator: %d requests in %.1fs (%.1f req/s), %d injected errors", name, total,
+                seconds, total / seconds, getInjectedErrorCount()));
+        Map<String, Counters> sorted = new TreeMap<>(endpoints);
+        for (Map.Entry<String, Counters> entry : sorted.entrySet()) {
+            Counters counters = entry.getValue();
+            lines.add(String.format("  %-40s %6d requests, %d injected errors, %d bytes in, %d bytes out",
+                    entry.getKey(), counters.requests.sum(), counters.injected.sum(), counters.bytesIn.sum(),
+                    counters.bytesOut.sum()));
+        }
+        return lines;
+    }
+
+    /**
+     * Processes a request.
+     *
+     * @param request The request
+     * @return The response
+     * @throws IOException if the response cannot be built
+     */
+    protected abstract Response handle(Request request) throws IOException;
+
+    /**
+     * Returns true if a request must carry an {@code Authorization} header.
+     *
+     * @param request The request
+     */
+    protected boolean requiresAuthorization(Request request) {
+        return true;
+    }
+
+    /**
+     * Returns the name under which a request is counted. By default the method
+     * and path, with long or numeric segments replaced by {@code {id}} like in
+     * the client metrics.
+     *
+     * @param request The request
+     */
+    protected String endpointName(Request request) {
+        StringBuilder endpoint = new StringBuilder(request.method()).append(' ');
+        int length = endpoint.length();
+        for (String segment : request.path().split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            boolean id = segment.length() >= 16 || segment.chars().allMatch(Character::isDigit);
+            endpoint.append('/').append(id ? "{id}" : segment);
+        }
+        return endpoint.length() == length ? endpoint.append('/').toString() : endpoint.toString();
+    }
+
+    private void serve(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            // Paths outside the API, e.g. repository content, are passed unchanged
+            String path = exchange.getRequestURI().getRawPath();
+            if (!basePath.isEmpty() && path.startsWith(basePath)) {
+                path = path.substring(basePath.length());
+            }
+            if (path.isEmpty()) {
+                path = "/";
+            }
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            Request request = new Request(exchange.getRequestMethod(), decode(path),
+                    query(exchange.getRequestURI().getRawQuery()), exchange.getRequestHeaders(), body);
+            Counters counters = endpoints.computeIfAbsent(endpointName(request), key -> new Counters());
+            counters.requests.increment();
+            counters.bytesIn.add(body.length);
+            delay();
+
+            Response response;
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                counters.injected.increment();
+                response = Response.text(errorStatus, "Injected error");
+            } else if (requiresAuthorization(request) && request.header("Authorization") == null) {
+                response = Response.text(401, "Missing credentials");
+            } else {
+                try {
+                    response = handle(request);
+                } catch (RuntimeException e) {
+                    response = Response.text(500, String.valueOf(e));
+                }
+                response = revalidate(request, response);
+            }
+            send(exchange, response, counters, bytesPerSecond);
+        }
+    }
+
+    private void delay() {
+        long min = minLatencyMillis;
+        long max = maxLatencyMillis;
+        if (max <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(min == max ? min : ThreadLocalRandom.current().nextLong(min, max + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Response revalidate(Request request, Response response) {
+        if (response.status() != 200 || !"application/json".equals(response.contentType())) {
+            return response;
+        }
+        String etag = etag(response.body());
+        if (etag.equals(request.header("If-None-Match"))) {
+            return new Response(304, null, new byte[0]);
+        }
+        return response;
+    }
+
+    private static String etag(byte[] body) {
+        return "\"" + DigestUtils.sha1Hex(body) + "\"";
+    }
+
+    private static void send(HttpExchange exchange, Response response, Counters counters, long bytesPerSecond)
+            throws IOException {
+        if (response.contentType() != null) {
+            exchange.getResponseHeaders().set("Content-Type", response.contentType());
+        }
+        if ("application/json".equals(response.contentType()) || response.status() == 304) {
+            exchange.getResponseHeaders().set("ETag", response.status() == 304
+                    ? exchange.getRequestHeaders().getFirst("If-None-Match") : etag(response.body()));
+        }
+        byte[] body = response.body();
+        boolean noBody = body.length == 0 || "HEAD".equals(exchange.getRequestMethod());
+        exchange.sendResponseHeaders(response.status(), noBody ? -1 : body.length);
+        if (!noBody) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                write(out, body, bytesPerSecond);
+            }
+            counters.bytesOut.add(body.length);
+        }
+    }
+
+    /**
+     * Writes a body in chunks, sleeping as needed to stay within the bandwidth.
+     */
+    private static void write(OutputStream out, byte[] body, long bytesPerSecond) throws IOException {
+        if (bytesPerSecond <= 0) {
+            out.write(body);
+            return;
+        }
+        long start = System.nanoTime();
+        for (int offset = 0; offset < body.length; offset += WRITE_CHUNK) {
+            int length = Math.min(WRITE_CHUNK, body.length - offset);
+            out.write(body, offset, length);
+            long aheadNanos = (offset + length) * 1_000_000_000L / bytesPerSecond - (System.nanoTime() - start);
+            if (aheadNanos > 0) {
+                try {
+                    Thread.sleep(aheadNanos / 1_000_000, (int) (aheadNanos % 1_000_000));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while sending the response", e);
+                }
+            }
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals < 0) {
+                query.put(decode(pair), "");
+            } else {
+                query.put(decode(pair.substring(0, equals)), decode(pair.substring(equals + 1)));
+            }
+        }
+        return query;
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static final class Counters {
+        final LongAdder requests = new LongAdder();
+        final LongAdder injected = new LongAdder();
+        final LongAdder bytesIn = new LongAdder();
+        final LongAdder bytesOut = new LongAdder();
+    }
+}
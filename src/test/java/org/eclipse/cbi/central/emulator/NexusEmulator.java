@@ -0,0 +1,455 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central.emulator;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Local stand-in for a Nexus Repository Manager 3, for offline benchmarks and
+ * integration checks of {@link org.eclipse.cbi.central.NexusClient} and of
+ * artifact downloads.
+ *
+ * Serves the REST API below {@code /service/rest/v1}: {@code /search} with
+ * continuation tokens, {@code /components/{id}} (GET and DELETE) and
+ * {@code /repositories}. The same components are served in the Maven 2
+ * layout below {@code /repository/{name}/}, with checksum and signature
+ * sidecars computed on the fly, and {@code maven-metadata.xml} per artifact.
+ *
+ * Repositories are filled with {@link #addComponent} or, at scale, with
+ * {@link #generate}: generated files are derived from their path, so
+ * thousands of components cost no memory and are identical on every request.
+ * Searches and downloads are anonymous; deletions need credentials.
+ *
+ * Part of the test sources, not of the plugin. Can be run standalone with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.eclipse.cbi.central.emulator.NexusEmulator
+ * -Dexec.args="[port [components [artifactBytes [bytesPerSecond]]]]"}
+ */
+public class NexusEmulator extends EmulatorServer {
+
+    private static final String API_PATH = "/service/rest/v1";
+    private static final String REPOSITORY_PATH = "/repository/";
+    private static final List<String> CHECKSUMS = List.of("md5", "sha1", "sha256", "sha512");
+
+    // Components by repository, then coordinates, in search order
+    private final Map<String, ConcurrentSkipListMap<String, Component>> repositories = new ConcurrentSkipListMap<>();
+    private final Map<String, Component> components = new ConcurrentHashMap<>();
+    // Files by repository path, e.g. "releases/org/example/foo/1.0/foo-1.0.jar"
+    private final Map<String, StoredFile> files = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> checksums = new ConcurrentHashMap<>();
+
+    private volatile int pageSize = 50;
+
+    /**
+     * Creates an empty emulator.
+     */
+    public NexusEmulator() {
+        super("nexus", API_PATH);
+    }
+
+    /**
+     * Sets the number of components per search page.
+     *
+     * @param pageSize Components per page, Nexus uses 50
+     */
+    public void setPageSize(int pageSize) {
+        this.pageSize = Math.max(1, pageSize);
+    }
+
+    /**
+     * Returns the URL of a repository in the Maven 2 layout, with trailing
+     * slash, to use as remote repository.
+     *
+     * @param repository The repository name
+     */
+    public String getRepositoryUrl(String repository) {
+        return getServerUrl() + REPOSITORY_PATH + repository + "/";
+    }
+
+    /**
+     * Returns the number of components left in all repositories.
+     */
+    public int getComponentCount() {
+        return components.size();
+    }
+
+    /**
+     * Adds a component with the given files.
+     *
+     * @param repository The repository, created if missing
+     * @param group      The group ID
+     * @param name       The artifact ID
+     * @param version    The version
+     * @param content    The content of each file, by file name, e.g.
+     *                   "foo-1.0.jar"; sidecars are served without being listed
+     * @return The component ID
+     */
+    public String addComponent(String repository, String group, String name, String version,
+            Map<String, byte[]> content) {
+        Map<String, StoredFile> stored = new LinkedHashMap<>();
+        content.forEach((fileName, bytes) -> stored.put(fileName, new StoredFile(bytes.clone(), bytes.length)));
+        return add(repository, group, name, version, stored).id();
+    }
+
+    /**
+     * Adds synthetic components, each with a POM, a JAR and a sources JAR, and
+     * their checksum and signature sidecars. Checksums are computed here, which
+     * takes a few seconds for thousands of components.
+     *
+     * @param repository    The repository, created if missing
+     * @param group         The group ID of all components
+     * @param count         The number of components, named artifact-1 to
+     *                      artifact-N
+     * @param version       The version of all components
+     * @param artifactBytes The size of each JAR
+     */
+    public void generate(String repository, String group, int count, String version, int artifactBytes) {
+        for (int i = 1; i <= count; i++) {
+            String name = "artifact-" + i;
+            String base = name + "-" + version;
+            Map<String, StoredFile> stored = new LinkedHashMap<>();
+            byte[] pom = pom(group, name, version);
+            stored.put(base + ".pom", new StoredFile(pom, pom.length));
+            stored.put(base + ".jar", new StoredFile(null, artifactBytes));
+            stored.put(base + "-sources.jar", new StoredFile(null, artifactBytes / 2));
+            Component component = add(repository, group, name, version, stored);
+            // Computed up front so that searches measure the client, not hashing
+            stored.keySet().forEach(fileName -> checksums(component.directory() + fileName));
+        }
+    }
+
+    private Component add(String repository, String group, String name, String version,
+            Map<String, StoredFile> stored) {
+        String id = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (repository + ":" + DigestUtils.md5Hex(repository + ":" + group + ":" + name + ":" + version))
+                        .getBytes(StandardCharsets.UTF_8));
+        Component component = new Component(id, repository, group, name, version, List.copyOf(stored.keySet()));
+        Component previous = components.put(id, component);
+        if (previous != null) {
+            remove(previous);
+        }
+        repositories.computeIfAbsent(repository, key -> new ConcurrentSkipListMap<>())
+                .put(group + ":" + name + ":" + version, component);
+        stored.forEach((fileName, file) -> files.put(component.directory() + fileName, file));
+        return component;
+    }
+
+    private void remove(Component component) {
+        Map<String, Component> repository = repositories.get(component.repository());
+        if (repository != null) {
+            repository.remove(component.group() + ":" + component.name() + ":" + component.version(), component);
+        }
+        for (String fileName : component.fileNames()) {
+            files.remove(component.directory() + fileName);
+            checksums.remove(component.directory() + fileName);
+        }
+    }
+
+    @Override
+    protected boolean requiresAuthorization(Request request) {
+        return !request.method().equals("GET") && !request.method().equals("HEAD");
+    }
+
+    @Override
+    protected String endpointName(Request request) {
+        if (!request.path().startsWith(REPOSITORY_PATH)) {
+            return super.endpointName(request);
+        }
+        // One counter per repository and file type rather than per file
+        String path = request.path().substring(REPOSITORY_PATH.length());
+        int slash = path.indexOf('/');
+        String fileName = path.substring(path.lastIndexOf('/') + 1);
+        int dot = fileName.lastIndexOf('.');
+        return request.method() + " " + REPOSITORY_PATH + (slash > 0 ? path.substring(0, slash) : path)
+                + "/*" + (dot > 0 ? fileName.substring(dot) : "");
+    }
+
+    @Override
+    protected Response handle(Request request) throws IOException {
+        String path = request.path();
+        String method = request.method();
+        if (path.startsWith(REPOSITORY_PATH) && (method.equals("GET") || method.equals("HEAD"))) {
+            return download(path.substring(REPOSITORY_PATH.length()));
+        } else if (path.equals("/search") && method.equals("GET")) {
+            return search(request.query());
+        } else if (path.startsWith("/components/")) {
+            Component component = components.get(path.substring("/components/".length()));
+            if (component == null) {
+                return Response.text(404, "Component not found");
+            } else if (method.equals("GET")) {
+                return Response.json(200, component.toJson(this));
+            } else if (method.equals("DELETE")) {
+                if (components.remove(component.id(), component)) {
+                    remove(component);
+                }
+                return Response.empty(204);
+            }
+            return Response.text(405, "Method not allowed: " + method);
+        } else if (path.equals("/repositories") && method.equals("GET")) {
+            List<Map<String, Object>> result = new ArrayList<>();
+            for (String name : repositories.keySet()) {
+                result.add(Map.of("name", name, "format", "maven2", "type", "hosted", "url",
+                        getRepositoryUrl(name).replaceAll("/$", "")));
+            }
+            return Response.json(200, result);
+        }
+        return Response.text(404, "No such endpoint: " + method + " " + path);
+    }
+
+    private Response search(Map<String, String> query) throws IOException {
+        int offset = 0;
+        String token = query.get("continuationToken");
+        if (token != null && !token.isEmpty()) {
+            try {
+                offset = Integer.parseInt(token, 16);
+            } catch (NumberFormatException e) {
+                return Response.text(400, "Invalid continuation token");
+            }
+        }
+        String repository = query.get("repository");
+        List<Component> matching = new ArrayList<>();
+        for (Map.Entry<String, ConcurrentSkipListMap<String, Component>> entry : repositories.entrySet()) {
+            if (repository != null && !repository.isEmpty() && !repository.equals(entry.getKey())) {
+                continue;
+            }
+            for (Component component : entry.getValue().values()) {
+                if (matches(query.get("group"), component.group()) && matches(query.get("name"), component.name())
+                        && matches(query.get("version"), component.version())) {
+                    matching.add(component);
+                }
+            }
+        }
+        int end = Math.min(matching.size(), offset + pageSize);
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = offset; i < end; i++) {
+            items.add(matching.get(i).toJson(this));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("items", items);
+        result.put("continuationToken", end < matching.size() ? String.format("%08x", end) : null);
+        return Response.json(200, result);
+    }
+
+    private static boolean matches(String filter, String value) {
+        return filter == null || filter.isEmpty() || filter.equals(value);
+    }
+
+    private Response download(String path) {
+        if (path.endsWith("/maven-metadata.xml")) {
+            return metadata(path);
+        }
+        StoredFile file = files.get(path);
+        if (file != null) {
+            return new Response(200, contentType(path), file.content(path));
+        }
+        for (String algorithm : CHECKSUMS) {
+            if (path.endsWith("." + algorithm) && files.containsKey(stripExtension(path))) {
+                return Response.text(200, checksums(stripExtension(path)).get(algorithm));
+            }
+        }
+        if (path.endsWith(".asc") && files.containsKey(stripExtension(path))) {
+            return Response.text(200, signature(stripExtension(path)));
+        }
+        return Response.text(404, "Not found: " + path);
+    }
+
+    private Response metadata(String path) {
+        // repository/group/path/artifactId/maven-metadata.xml
+        String directory = path.substring(0, path.lastIndexOf('/'));
+        int slash = directory.indexOf('/');
+        String repository = directory.substring(0, slash);
+        String artifactPath = directory.substring(slash + 1);
+        TreeSet<String> versions = new TreeSet<>();
+        String group = null;
+        String name = null;
+        Map<String, Component> content = repositories.getOrDefault(repository, new ConcurrentSkipListMap<>());
+        for (Component component : content.values()) {
+            if ((component.group().replace('.', '/') + "/" + component.name()).equals(artifactPath)) {
+                versions.add(component.version());
+                group = component.group();
+                name = component.name();
+            }
+        }
+        if (versions.isEmpty()) {
+            return Response.text(404, "Not found: " + path);
+        }
+        StringBuilder xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<metadata>\n")
+                .append("  <groupId>").append(group).append("</groupId>\n")
+                .append("  <artifactId>").append(name).append("</artifactId>\n")
+                .append("  <versioning>\n    <latest>").append(versions.last()).append("</latest>\n")
+                .append("    <release>").append(versions.last()).append("</release>\n    <versions>\n");
+        for (String version : versions) {
+            xml.append("      <version>").append(version).append("</version>\n");
+        }
+        xml.append("    </versions>\n  </versioning>\n</metadata>\n");
+        return new Response(200, "application/xml", xml.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, String> checksums(String path) {
+        return checksums.computeIfAbsent(path, key -> {
+            byte[] content = files.get(key).content(key);
+            return Map.of("md5", DigestUtils.md5Hex(content), "sha1", DigestUtils.sha1Hex(content),
+                    "sha256", DigestUtils.sha256Hex(content), "sha512", DigestUtils.sha512Hex(content));
+        });
+    }
+
+    private String signature(String path) {
+        return "-----BEGIN PGP SIGNATURE-----\n\n"
+                + Base64.getMimeEncoder().encodeToString(DigestUtils.sha512(checksums(path).get("sha512")))
+                + "\n-----END PGP SIGNATURE-----\n";
+    }
+
+    private static String stripExtension(String path) {
+        return path.substring(0, path.lastIndexOf('.'));
+    }
+
+    private static String contentType(String path) {
+        if (path.endsWith(".pom") || path.endsWith(".xml")) {
+            return "application/xml";
+        } else if (path.endsWith(".jar")) {
+            return "application/java-archive";
+        }
+        return "application/octet-stream";
+    }
+
+    private static byte[] pom(String group, String name, String version) {
+        return ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                + "  <modelVersion>4.0.0</modelVersion>\n"
+                + "  <groupId>" + group + "</groupId>\n"
+                + "  <artifactId>" + name + "</artifactId>\n"
+                + "  <version>" + version + "</version>\n"
+                + "  <packaging>jar</packaging>\n"
+                + "</project>\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A stored file: either explicit content, or a size for content generated
+     * from the path.
+     */
+    private record StoredFile(byte[] bytes, int size) {
+
+        byte[] content(String path) {
+            if (bytes != null) {
+                return bytes;
+            }
+            byte[] generated = new byte[size];
+            new SplittableRandom(path.hashCode()).nextBytes(generated);
+            return generated;
+        }
+    }
+
+    /**
+     * A component and the names of its files, sidecars excluded.
+     */
+    private record Component(String id, String repository, String group, String name, String version,
+            List<String> fileNames) {
+
+        String directory() {
+            return repository + "/" + group.replace('.', '/') + "/" + name + "/" + version + "/";
+        }
+
+        Map<String, Object> toJson(NexusEmulator nexus) {
+            List<Map<String, Object>> assets = new ArrayList<>();
+            for (String fileName : fileNames) {
+                StoredFile file = nexus.files.get(directory() + fileName);
+                assets.add(asset(nexus, fileName, nexus.checksums(directory() + fileName),
+                        file != null ? file.size() : 0));
+                for (String sidecar : List.of("asc", "md5", "sha1")) {
+                    assets.add(asset(nexus, fileName + "." + sidecar, null, 0));
+                }
+            }
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("id", id);
+            json.put("repository", repository);
+            json.put("format", "maven2");
+            json.put("group", group);
+            json.put("name", name);
+            json.put("version", version);
+            json.put("assets", assets);
+            return json;
+        }
+
+        private Map<String, Object> asset(NexusEmulator nexus, String fileName, Map<String, String> checksum,
+                long fileSize) {
+            String path = directory().substring(repository.length() + 1) + fileName;
+            String prefix = name + "-" + version;
+            String rest = fileName.startsWith(prefix) ? fileName.substring(prefix.length()) : fileName;
+            String classifier = null;
+            String extension;
+            if (rest.startsWith("-")) {
+                int dot = rest.indexOf('.');
+                classifier = rest.substring(1, dot);
+                extension = rest.substring(dot + 1);
+            } else {
+                extension = rest.startsWith(".") ? rest.substring(1) : rest;
+            }
+            Map<String, Object> maven2 = new LinkedHashMap<>();
+            maven2.put("extension", extension);
+            maven2.put("groupId", group);
+            maven2.put("artifactId", name);
+            maven2.put("version", version);
+            if (classifier != null) {
+                maven2.put("classifier", classifier);
+            }
+            Map<String, Object> asset = new LinkedHashMap<>();
+            asset.put("downloadUrl", nexus.getRepositoryUrl(repository) + path);
+            asset.put("path", path);
+            asset.put("id", Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    (repository + ":" + DigestUtils.md5Hex(path)).getBytes(StandardCharsets.UTF_8)));
+            asset.put("repository", repository);
+            asset.put("format", "maven2");
+            asset.put("contentType", contentType(path));
+            if (fileSize > 0) {
+                asset.put("fileSize", fileSize);
+            }
+            if (checksum != null) {
+                asset.put("checksum", checksum);
+            }
+            asset.put("maven2", maven2);
+            return asset;
+        }
+    }
+
+    /**
+     * Runs the emulator with a generated "releases" repository until the
+     * process is stopped, printing the counters on exit.
+     *
+     * @param args Optional port, number of components, JAR size in bytes and
+     *             bandwidth in bytes per second
+     * @throws Exception if the server cannot start
+     */
+    public static void main(String[] args) throws Exception {
+        NexusEmulator emulator = new NexusEmulator();
+        emulator.generate("releases", "org.example", args.length >= 2 ? Integer.parseInt(args[1]) : 1000, "1.0.0",
+                args.length >= 3 ? Integer.parseInt(args[2]) : 64 * 1024);
+        if (args.length >= 4) {
+            emulator.setBandwidth(Long.parseLong(args[3]));
+        }
+        String url = emulator.start(args.length >= 1 ? Integer.parseInt(args[0]) : 0);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> emulator.statistics().forEach(System.out::println)));
+        System.out.println("Nexus emulator listening on " + url + ", repository "
+                + emulator.getRepositoryUrl("releases"));
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central.emulator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.RequestBody;
+import org.eclipse.cbi.central.CentralPortalClient;
+import org.eclipse.cbi.central.ClientSettings;
+import org.eclipse.cbi.central.HttpClientRegistry;
+import org.eclipse.cbi.central.RetryPolicy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Compares the heap use and latency of parsing a large deployment listing:
+ * reading the body as a String and binding it to a Map, as the clients used
+ * to do, against the streaming {@code listDeployments} (field filter) and
+ * {@code listDeploymentPage} (typed records) of {@link CentralPortalClient}.
+ *
+ * The listing is the {@code deployments-files-500.json.gz} fixture: 500
+ * deployments with 4 to 14 component versions each, including per-file
+ * details the mojos never read, about 4.7 MB of JSON. It is served by a local
+ * emulator, so the figures include the HTTP exchange. Allocated bytes are
+ * counted for all threads of the JVM, emulator included; the retained size is
+ * what the parsed result keeps reachable.
+ *
+ * Run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.eclipse.cbi.central.emulator.ResponseParsingBenchmark
+ * -Dexec.args="[iterations]"}
+ */
+public final class ResponseParsingBenchmark {
+
+    private static final String FIXTURE = "deployments-files-500.json.gz";
+    private static final int RETAINED = 10;
+
+    @FunctionalInterface
+    private interface Parse {
+        Object run() throws IOException;
+    }
+
+    private ResponseParsingBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iterations = args.length >= 1 ? Integer.parseInt(args[0]) : 50;
+        byte[] listing = loadFixture();
+
+        try (EmulatorServer emulator = new EmulatorServer("listing", "/api/v1/publisher") {
+            @Override
+            protected Response handle(Request request) {
+                return new Response(200, "application/json", listing);
+            }
+        }) {
+            String url = emulator.start(0);
+            ObjectMapper mapper = new ObjectMapper();
+            OkHttpClient okHttp = new OkHttpClient();
+            CentralPortalClient client = HttpClientRegistry.getInstance().centralPortalClient("benchmark", url,
+                    30, 300, 300, new ClientSettings(null, RetryPolicy.NONE, null, null, 0, 0));
+            String payload = "{\"page\":0,\"size\":500,\"sortField\":\"createTimestamp\","
+                    + "\"sortDirection\":\"desc\",\"pathStarting\":\"org\"}";
+
+            System.out.printf("Fixture: %d deployments, %.1f MB of JSON%n", 500, listing.length / 1e6);
+            report("String + Map", iterations, () -> {
+                okhttp3.Request request = new okhttp3.Request.Builder().url(url + "/deployments/files")
+                        .header("Authorization", "Bearer benchmark")
+                        .post(RequestBody.create(payload, MediaType.parse("application/json"))).build();
+                try (okhttp3.Response response = okHttp.newCall(request).execute()) {
+                    String body = response.body().string();
+                    return mapper.readValue(body, Map.class);
+                }
+            });
+            report("listDeployments", iterations,
+                    () -> client.listDeployments("org", 0, 500, "createTimestamp", "desc"));
+            report("listDeploymentPage", iterations,
+                    () -> client.listDeploymentPage("org", 0, 500, "createTimestamp", "desc"));
+            okHttp.dispatcher().executorService().shutdown();
+        }
+    }
+
+    private static byte[] loadFixture() throws IOException {
+        try (InputStream in = new GZIPInputStream(ResponseParsingBenchmark.class.getResourceAsStream(FIXTURE))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static void report(String name, int iterations, Parse parse) throws IOException {
+        // Warm up the JIT and the connection
+        for (int i = 0; i < iterations; i++) {
+            parse.run();
+        }
+
+        long[] nanos = new long[iterations];
+        long allocatedBefore = allocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            parse.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        long allocated = (allocatedBytes() - allocatedBefore) / iterations;
+        Arrays.sort(nanos);
+
+        long heapBefore = usedHeap();
+        List<Object> results = new ArrayList<>();
+        for (int i = 0; i < RETAINED; i++) {
+            results.add(parse.run());
+        }
+        long retained = (usedHeap() - heapBefore) / RETAINED;
+
+        System.out.printf("%-20s p50 %5.1f ms, p90 %5.1f ms, %6.1f MB allocated/call, %6.2f MB retained%n",
+                name, nanos[iterations / 2] / 1e6, nanos[iterations * 9 / 10] / 1e6, allocated / 1e6,
+                retained / 1e6);
+        results.clear();
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long total = 0;
+        for (long allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            total += Math.max(0, allocated);
+        }
+        return total;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central.emulator;
+
+import org.eclipse.cbi.central.CentralPortalClient;
+import org.eclipse.cbi.central.ClientSettings;
+import org.eclipse.cbi.central.HttpClientRegistry;
+import org.eclipse.cbi.central.HttpTransport;
+import org.eclipse.cbi.central.RetryPolicy;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Compares the OkHttp and JDK transports against the
+ * {@link CentralPortalEmulator}: sequential and concurrent status polling,
+ * deployment listings, and multipart uploads of a large bundle.
+ *
+ * Each transport runs twice in turn and only the second round is reported,
+ * the first one warming up the JIT and the connection pools. Every status
+ * call asks for another deployment, so that none is answered by a shared
+ * recent result. The emulator speaks HTTP/1.1, so the JDK transport is
+ * measured without multiplexing.
+ *
+ * Run with
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.eclipse.cbi.central.emulator.TransportBenchmark
+ * -Dexec.args="[bundleMegabytes [statusCalls [listingCalls]]]"}
+ */
+public final class TransportBenchmark {
+
+    private static final String GROUP_PATH = "org/example/bench";
+    private static final int PAGE_SIZE = 100;
+
+    private TransportBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int bundleMegabytes = args.length >= 1 ? Integer.parseInt(args[0]) : 64;
+        int statusCalls = args.length >= 2 ? Integer.parseInt(args[1]) : 1000;
+        int listingCalls = args.length >= 3 ? Integer.parseInt(args[2]) : 200;
+
+        Path small = Files.createTempFile("benchmark-bundle", ".zip");
+        Path large = Files.createTempFile("benchmark-bundle", ".zip");
+        try (CentralPortalEmulator emulator = new CentralPortalEmulator()) {
+            writeBundle(small, 0);
+            writeBundle(large, bundleMegabytes);
+            emulator.setStateDurations(0, 0, 0);
+            String url = emulator.start(0);
+            for (int round = 0; round < 2; round++) {
+                for (HttpTransport.Type transport : HttpTransport.Type.values()) {
+                    String result = run(url, transport, small, large, bundleMegabytes, statusCalls, listingCalls);
+                    if (round == 1) {
+                        System.out.println(result);
+                    }
+                }
+            }
+        } finally {
+            Files.deleteIfExists(small);
+            Files.deleteIfExists(large);
+        }
+    }
+
+    private static String run(String url, HttpTransport.Type transport, Path small, Path large,
+            int bundleMegabytes, int statusCalls, int listingCalls) throws Exception {
+        CentralPortalClient client = HttpClientRegistry.getInstance().centralPortalClient("benchmark", url, 30,
+                300, 300, new ClientSettings(transport, RetryPolicy.NONE, null, null, 0, 0));
+
+        List<String> deploymentIds = new ArrayList<>();
+        for (int i = 0; i < 2 * statusCalls; i++) {
+            deploymentIds.add(client.uploadBundle(small, "benchmark-" + i, "USER_MANAGED"));
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < statusCalls; i++) {
+            client.getDeploymentStatus(deploymentIds.get(i));
+        }
+        long sequential = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int i = statusCalls; i < 2 * statusCalls; i++) {
+            futures.add(client.getDeploymentStatusAsync(deploymentIds.get(i)));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get();
+        long concurrent = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < listingCalls; i++) {
+            client.listDeploymentPage(GROUP_PATH, 0, PAGE_SIZE, "createTimestamp", "desc");
+        }
+        long listing = System.nanoTime() - start;
+
+        int uploads = 3;
+        start = System.nanoTime();
+        for (int i = 0; i < uploads; i++) {
+            client.uploadBundle(large, "benchmark-upload-" + i, "USER_MANAGED");
+        }
+        long upload = System.nanoTime() - start;
+
+        return String.format("%-6s status %.0f us/call sequential, %d calls concurrent in %d ms; "
+                + "listing %.0f us/page; upload %d x %d MB in %d ms (%.0f MB/s)",
+                transport, sequential / 1e3 / statusCalls, statusCalls, concurrent / 1_000_000,
+                listing / 1e3 / listingCalls, uploads, bundleMegabytes, upload / 1_000_000,
+                uploads * bundleMegabytes / (upload / 1e9));
+    }
+
+    /**
+     * Writes a bundle holding a POM and a stored JAR of random content, so that
+     * the emulator validates it without inflating the JAR.
+     */
+    private static void writeBundle(Path bundle, int megabytes) throws IOException {
+        byte[] chunk = new byte[1024 * 1024];
+        new Random(1).nextBytes(chunk);
+        CRC32 crc = new CRC32();
+        for (int i = 0; i < megabytes; i++) {
+            crc.update(chunk);
+        }
+        String base = GROUP_PATH + "/1.0/bench-1.0";
+        String pom = "<project><modelVersion>4.0.0</modelVersion><groupId>org.example</groupId>"
+                + "<artifactId>bench</artifactId><version>1.0</version></project>";
+        try (OutputStream file = Files.newOutputStream(bundle);
+                ZipOutputStream zip = new ZipOutputStream(file)) {
+            zip.putNextEntry(new ZipEntry(base + ".pom"));
+            zip.write(pom.getBytes(StandardCharsets.UTF_8));
+            ZipEntry jar = new ZipEntry(base + ".jar");
+            jar.setMethod(ZipEntry.STORED);
+            jar.setSize((long) megabytes * chunk.length);
+            jar.setCrc(crc.getValue());
+            zip.putNextEntry(jar);
+            for (int i = 0; i < megabytes; i++) {
+                zip.write(chunk);
+            }
+            zip.closeEntry();
+        }
+    }
+}
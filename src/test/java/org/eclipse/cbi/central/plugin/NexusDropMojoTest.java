@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.eclipse.cbi.central.plugin;
+
+import org.eclipse.cbi.central.HttpClientRegistry;
+import org.eclipse.cbi.central.emulator.NexusEmulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the {@code nexus-drop} goal against the {@link NexusEmulator}, with
+ * more matching components than fit in a search page.
+ */
+class NexusDropMojoTest {
+
+    private NexusEmulator emulator;
+    private String url;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // Each test is a build of its own for the shared registry
+        HttpClientRegistry.getInstance().beginSession(new Object());
+        emulator = new NexusEmulator();
+        emulator.setPageSize(50);
+        emulator.generate("releases", "org.example", 120, "1.0", 64);
+        emulator.generate("releases", "org.other", 10, "1.0", 64);
+        url = emulator.start(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emulator.close();
+    }
+
+    @Test
+    void dropsAllPages() throws Exception {
+        mojo(false).execute();
+        assertEquals(10, emulator.getComponentCount());
+    }
+
+    @Test
+    void dryRunKeepsComponents() throws Exception {
+        mojo(true).execute();
+        assertEquals(130, emulator.getComponentCount());
+    }
+
+    private NexusDropMojo mojo(boolean dryRun) {
+        NexusDropMojo mojo = new NexusDropMojo();
+        mojo.nexusApiUrl = url;
+        mojo.username = "user";
+        mojo.password = "pass";
+        mojo.repository = "releases";
+        mojo.group = "org.example";
+        mojo.version = "1.0";
+        mojo.circuitBreakerFailureRate = 50;
+        mojo.circuitBreakerOpenTime = 30;
+        mojo.dryRun = dryRun;
+        return mojo;
+    }
+}